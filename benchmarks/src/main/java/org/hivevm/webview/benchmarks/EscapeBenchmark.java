@@ -0,0 +1,129 @@
+/**
+ * MIT License
+ * 
+ * Copyright (c) 2025 HiveVM
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.hivevm.webview.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+import org.hivevm.webview.WebViewUtil;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares the table driven escaping of {@link WebViewUtil} with the {@link LegacyEscape}, for
+ * inputs of the typical scripts:
+ *
+ * <pre>
+ * <code>
+ *   java -jar benchmarks/target/benchmarks.jar EscapeBenchmark
+ * </code>
+ * </pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EscapeBenchmark {
+
+  @Param({ "ASCII", "LATIN1", "CJK", "EMOJI" })
+  private Text   text;
+
+  @Param({ "1024" })
+  private int    length;
+
+  private String input;
+
+  @Setup
+  public void setup() {
+    input = text.create(length);
+  }
+
+  @Benchmark
+  public String jsonEscape() {
+    return WebViewUtil.jsonEscape(input);
+  }
+
+  @Benchmark
+  public String jsonEscapeLegacy() {
+    return LegacyEscape.jsonEscape(input);
+  }
+
+  @Benchmark
+  public String forceSafeChars() {
+    return WebViewUtil.forceSafeChars(input);
+  }
+
+  @Benchmark
+  public String forceSafeCharsLegacy() {
+    return LegacyEscape.forceSafeChars(input);
+  }
+
+  /**
+   * The kinds of text to escape.
+   */
+  public enum Text {
+
+    /**
+     * Plain ASCII with a quote and a line break now and then, like most scripts and results.
+     */
+    ASCII("The quick brown fox jumps over the \"lazy\" dog.\n"),
+
+    /**
+     * Western European text, where some of the characters have to be escaped.
+     */
+    LATIN1("Größe, Straße, déjà vu, señor, smørrebrød. "),
+
+    /**
+     * Chinese and Japanese text, where all of the characters have to be escaped.
+     */
+    CJK("日本語のテキストと中文文本。"),
+
+    /**
+     * Short text mixed with emoji, which are surrogate pairs.
+     */
+    EMOJI("Nice 👍 see you 🎉🙂 ");
+
+    private final String sample;
+
+    Text(String sample) {
+      this.sample = sample;
+    }
+
+    /**
+     * Creates a text of the given length by repeating the sample.
+     */
+    public String create(int length) {
+      StringBuilder text = new StringBuilder(length + sample.length());
+      while (text.length() < length)
+        text.append(sample);
+      return text.toString();
+    }
+  }
+}
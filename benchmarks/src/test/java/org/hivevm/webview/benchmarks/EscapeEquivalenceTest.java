@@ -0,0 +1,90 @@
+/**
+ * MIT License
+ * 
+ * Copyright (c) 2025 HiveVM
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.hivevm.webview.benchmarks;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.util.Random;
+import org.hivevm.webview.WebViewUtil;
+import org.hivevm.webview.benchmarks.EscapeBenchmark.Text;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Checks that the table driven escaping produces the same output as the {@link LegacyEscape}.
+ */
+class EscapeEquivalenceTest {
+
+  private static final String[] SAMPLES =
+      { "", "plain", "\"quoted\"", "back\\slash", "\n\t\r\b\f", "nul\0nul", "\u007f\u0080ÿ",
+          "Ā߿ࠀ￿", "😀", "lone \ud83d high", "lone \ude00 low" };
+
+  @Test
+  void sameAsLegacyForSamples() {
+    for (String input : SAMPLES)
+      assertEscapedAsLegacy(input);
+  }
+
+  @Test
+  void sameAsLegacyForBenchmarkTexts() {
+    for (Text text : Text.values())
+      assertEscapedAsLegacy(text.create(1024));
+  }
+
+  @Test
+  void sameAsLegacyForRandomText() {
+    Random random = new Random(42);
+    for (int n = 0; n < 10_000; n++) {
+      char[] chars = new char[random.nextInt(64)];
+      for (int i = 0; i < chars.length; i++) {
+        char ch = (char) random.nextInt(random.nextBoolean() ? 0x80 : 0x10000);
+        chars[i] = isControl(ch) ? ' ' : ch;
+      }
+      assertEscapedAsLegacy(new String(chars));
+    }
+  }
+
+  @Test
+  void returnsInputWithoutEscapes() {
+    String input = Text.ASCII.create(64).replace("\"", "").replace("\n", "");
+    assertSame(input, WebViewUtil.jsonEscape(input));
+    assertSame(input, WebViewUtil.forceSafeChars(input));
+  }
+
+  /**
+   * The legacy escaping emitted the control characters without a short escape as is, which isn't
+   * valid JSON.
+   */
+  @Test
+  void escapesControlCharacters() {
+    assertEquals("a\\u0001b\\u001f", WebViewUtil.jsonEscape("a\u0001b\u001f"));
+    assertEquals("a\u0001b\u001f", WebViewUtil.forceSafeChars("a\u0001b\u001f"));
+  }
+
+  private static void assertEscapedAsLegacy(String input) {
+    assertEquals(LegacyEscape.jsonEscape(input), WebViewUtil.jsonEscape(input));
+    assertEquals(LegacyEscape.forceSafeChars(input), WebViewUtil.forceSafeChars(input));
+  }
+
+  private static boolean isControl(char ch) {
+    return ch > 0 && ch < 0x20 && "\n\t\r\b\f".indexOf(ch) < 0;
+  }
+}
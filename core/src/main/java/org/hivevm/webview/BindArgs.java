@@ -0,0 +1,191 @@
+/**
+ * MIT License
+ * 
+ * Copyright (c) 2025 HiveVM
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.hivevm.webview;
+
+import java.lang.reflect.Type;
+import java.util.Arrays;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * The {@link BindArgs} gives indexed access to the arguments of a bound function, without parsing
+ * them into a tree. The top-level array is only scanned as far as the requested argument, so a
+ * handler reading a small first argument does not pay for a large one after it.
+ *
+ * <pre>
+ * <code>
+ *   wv.bind("save", json -> {
+ *     BindArgs args = BindArgs.of(json);
+ *     long id = args.getLong(0);
+ *     ...
+ *   });
+ * </code>
+ * </pre>
+ */
+public class BindArgs {
+
+  private final String json;
+
+  private int[]        bounds = new int[8]; // Start and end of each indexed argument
+  private int          count;
+  private int          position;
+  private boolean      complete;
+
+  private BindArgs(String json) {
+    this.json = json;
+    this.position = Json.skipWhitespace(json, json.indexOf('[') + 1);
+    this.complete = position >= json.length() || json.charAt(position) == ']';
+  }
+
+  /**
+   * Creates the arguments from the JSON array passed to a bound function.
+   */
+  public static BindArgs of(@NotNull String jsonArgs) {
+    return new BindArgs(jsonArgs);
+  }
+
+  /**
+   * Gets the number of arguments, which scans the whole array.
+   */
+  public int size() {
+    while (!complete)
+      next();
+    return count;
+  }
+
+  /**
+   * Gets the JSON text of the argument, or <code>null</code> if there is no such argument.
+   */
+  public @Nullable String getRaw(int index) {
+    return has(index) ? json.substring(start(index), end(index)) : null;
+  }
+
+  /**
+   * Returns <code>true</code> if the argument is missing or <code>null</code>.
+   */
+  public boolean isNull(int index) {
+    return !has(index) || json.startsWith("null", start(index));
+  }
+
+  /**
+   * Gets the argument as string. Strings are unescaped, other values are returned as JSON text.
+   */
+  public @Nullable String getString(int index) {
+    if (isNull(index))
+      return null;
+
+    int start = start(index);
+    int end = end(index);
+    return json.charAt(start) == '"' ? Json.decodeString(json, start, end)
+        : json.substring(start, end);
+  }
+
+  public long getLong(int index) {
+    int start = checkedStart(index);
+    int end = end(index);
+    if (json.charAt(start) == '"')
+      return Long.parseLong(json, start + 1, end - 1, 10);
+    return Long.parseLong(json, start, end, 10);
+  }
+
+  public int getInt(int index) {
+    return Math.toIntExact(getLong(index));
+  }
+
+  public double getDouble(int index) {
+    int start = checkedStart(index);
+    int end = end(index);
+    if (json.charAt(start) == '"')
+      return Double.parseDouble(json.substring(start + 1, end - 1));
+    return Double.parseDouble(json.substring(start, end));
+  }
+
+  public boolean getBoolean(int index) {
+    return json.startsWith("true", checkedStart(index));
+  }
+
+  /**
+   * Gets the argument decoded to the given type, which may be any type supported by typed
+   * bindings, e.g. a record.
+   */
+  public <T> @Nullable T get(int index, @NotNull Class<T> type) throws Throwable {
+    JsonCodec<T> codec = JsonCodec.of(type);
+    return has(index) ? codec.read(json, start(index), end(index)) : codec.nullValue();
+  }
+
+  /**
+   * Gets the argument decoded to the given generic type, e.g. a <code>List&lt;Order&gt;</code>
+   * taken from a method parameter, so the elements are decoded to their declared type as well.
+   */
+  public @Nullable Object get(int index, @NotNull Type type) throws Throwable {
+    JsonCodec<?> codec = JsonCodec.of(type);
+    return has(index) ? codec.read(json, start(index), end(index)) : codec.nullValue();
+  }
+
+  /**
+   * Gets the JSON text of all arguments.
+   */
+  @Override
+  public String toString() {
+    return json;
+  }
+
+  int start(int index) {
+    return bounds[index * 2];
+  }
+
+  int end(int index) {
+    return bounds[index * 2 + 1];
+  }
+
+  /**
+   * Returns <code>true</code> if the argument exists, indexing up to it.
+   */
+  boolean has(int index) {
+    while (index >= count && !complete)
+      next();
+    return index >= 0 && index < count;
+  }
+
+  private int checkedStart(int index) {
+    if (isNull(index))
+      throw new IllegalArgumentException("Argument " + index + " is missing");
+    return start(index);
+  }
+
+  /**
+   * Indexes the next argument of the array.
+   */
+  private void next() {
+    int end = Json.skipValue(json, position);
+    if (bounds.length < (count + 1) * 2)
+      bounds = Arrays.copyOf(bounds, bounds.length * 2);
+    bounds[count * 2] = position;
+    bounds[count * 2 + 1] = end;
+    count++;
+
+    position = Json.skipWhitespace(json, end);
+    if (position < json.length() && json.charAt(position) == ',')
+      position = Json.skipWhitespace(json, position + 1);
+    else
+      complete = true;
+  }
+}
@@ -0,0 +1,237 @@
+/**
+ * MIT License
+ * 
+ * Copyright (c) 2025 HiveVM
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.hivevm.webview;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * The {@link BindCoalescer} avoids redundant calls of idempotent bindings, keyed by the raw JSON
+ * arguments. Identical calls in flight share a single execution, which is cancelled once all of
+ * its callers have cancelled, and results are kept in a bounded cache with LRU eviction and a time
+ * to live.
+ */
+class BindCoalescer {
+
+  private final Map<String, Flight>          flights;
+  private final LinkedHashMap<String, Entry> cache;
+  private final long                         ttl;
+
+  private long                               generation;
+
+  /**
+   * @param singleFlight <code>true</code> to share identical calls in flight
+   * @param maxEntries The size of the cache, or 0 for no cache
+   * @param ttl The time to live of cached results in nanoseconds
+   */
+  BindCoalescer(boolean singleFlight, int maxEntries, long ttl) {
+    this.flights = singleFlight ? new ConcurrentHashMap<>() : null;
+    this.cache = maxEntries <= 0 ? null : new LinkedHashMap<>(16, 0.75f, true) {
+
+      @Override
+      protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+        return size() > maxEntries;
+      }
+    };
+    this.ttl = ttl;
+  }
+
+  /**
+   * Wraps a handler running on the UI thread, where calls can only be served from the cache.
+   */
+  WebViewBindCallback wrap(WebViewBindCallback handler) {
+    if (cache == null)
+      return handler;
+
+    return jsonArgs -> {
+      String response = get(jsonArgs);
+      if (response == null) {
+        long generation = generation();
+        response = handler.apply(jsonArgs);
+        put(jsonArgs, response, generation);
+      }
+      return response;
+    };
+  }
+
+  /**
+   * Wraps an asynchronous handler, sharing identical calls in flight and caching their results.
+   */
+  WebViewAsyncBindCallback wrapAsync(WebViewAsyncBindCallback handler) {
+    return jsonArgs -> {
+      String cached = get(jsonArgs);
+      if (cached != null)
+        return CompletableFuture.completedFuture(cached);
+
+      if (flights == null)
+        return start(handler, jsonArgs);
+
+      while (true) {
+        Flight flight = flights.get(jsonArgs);
+        if (flight == null) {
+          // Join before publishing, so the flight can't be abandoned before it has started.
+          Flight started = new Flight(jsonArgs);
+          CompletableFuture<String> waiter = started.join();
+          if (flights.putIfAbsent(jsonArgs, started) == null) {
+            started.run(start(handler, jsonArgs));
+            return waiter;
+          }
+          continue;
+        }
+
+        CompletableFuture<String> waiter = flight.join();
+        if (waiter != null)
+          return waiter;
+
+        // All callers of the flight have cancelled in the meantime.
+        flights.remove(jsonArgs, flight);
+      }
+    };
+  }
+
+  /**
+   * Drops the cached result of the arguments.
+   */
+  synchronized void invalidate(String jsonArgs) {
+    generation++;
+    if (cache != null)
+      cache.remove(jsonArgs);
+    if (flights != null)
+      flights.remove(jsonArgs);
+  }
+
+  /**
+   * Drops all cached results.
+   */
+  synchronized void invalidateAll() {
+    generation++;
+    if (cache != null)
+      cache.clear();
+    if (flights != null)
+      flights.clear();
+  }
+
+  private CompletableFuture<String> start(WebViewAsyncBindCallback handler, String jsonArgs) {
+    long generation = generation();
+    CompletableFuture<String> future;
+    try {
+      future = handler.apply(jsonArgs);
+    } catch (Throwable e) {
+      return CompletableFuture.failedFuture(e);
+    }
+
+    if (cache != null)
+      future.thenAccept(response -> put(jsonArgs, response, generation));
+    return future;
+  }
+
+  private synchronized long generation() {
+    return generation;
+  }
+
+  private synchronized String get(String jsonArgs) {
+    if (cache == null)
+      return null;
+
+    Entry entry = cache.get(jsonArgs);
+    if (entry == null)
+      return null;
+
+    if (System.nanoTime() - entry.created > ttl) {
+      cache.remove(jsonArgs);
+      return null;
+    }
+    return entry.response;
+  }
+
+  /**
+   * Caches the response, unless the cache was invalidated since the call started.
+   */
+  private synchronized void put(String jsonArgs, String response, long generation) {
+    if (cache != null && response != null && generation == this.generation)
+      cache.put(jsonArgs, new Entry(response, System.nanoTime()));
+  }
+
+  private record Entry(String response, long created) {}
+
+  /**
+   * The execution shared by identical calls in flight. Each caller waits on its own future, so one
+   * caller cancelling does not cancel the others; the execution is cancelled with the last one.
+   */
+  private class Flight {
+
+    private final String                    jsonArgs;
+    private final CompletableFuture<String> result = new CompletableFuture<>();
+
+    private CompletableFuture<String>       execution;
+    private int                             waiters;
+    private boolean                         abandoned;
+
+    private Flight(String jsonArgs) {
+      this.jsonArgs = jsonArgs;
+    }
+
+    /**
+     * Adds a caller, or returns <code>null</code> if all callers have already cancelled.
+     */
+    private synchronized CompletableFuture<String> join() {
+      if (abandoned)
+        return null;
+
+      waiters++;
+      CompletableFuture<String> waiter = result.copy();
+      waiter.whenComplete((response, error) -> {
+        if (waiter.isCancelled())
+          leave();
+      });
+      return waiter;
+    }
+
+    private void run(CompletableFuture<String> execution) {
+      synchronized (this) {
+        this.execution = execution;
+      }
+
+      execution.whenComplete((response, error) -> {
+        flights.remove(jsonArgs, this);
+        if (error != null)
+          result.completeExceptionally(error);
+        else
+          result.complete(response);
+      });
+    }
+
+    /**
+     * Removes a cancelled caller, cancelling the execution if it was the last one.
+     */
+    private synchronized void leave() {
+      if (--waiters > 0 || result.isDone())
+        return;
+
+      abandoned = true;
+      flights.remove(jsonArgs, this);
+      if (execution != null)
+        execution.cancel(true);
+    }
+  }
+}
@@ -0,0 +1,174 @@
+/**
+ * MIT License
+ * 
+ * Copyright (c) 2025 HiveVM
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.hivevm.webview;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * The {@link BindCompression} gzips large responses and ships them as base64, which the page
+ * inflates with a <code>DecompressionStream</code> before the promise resolves. This reduces the
+ * native string the webview has to copy and hold for big transfers.
+ *
+ * Responses are compressed from a size threshold, which adapts to the measured costs: the page
+ * reports how long inflating took, and the threshold is lowered while compression saves enough
+ * and stays cheap, and raised otherwise.
+ */
+class BindCompression {
+
+  /** The binding the page reports the cost of inflating to. */
+  static final String         REPORT    = "__webview_inflated";
+
+  /** Inflates a compressed response, or returns any other value. */
+  static final String         DECODE    = """
+      async value => {
+        if (!value || typeof value.__webview_gzip !== 'string')
+          return value;
+        const binary = atob(value.__webview_gzip);
+        const bytes = new Uint8Array(binary.length);
+        for (let i = 0; i < binary.length; i++)
+          bytes[i] = binary.charCodeAt(i);
+        const stream = new Blob([bytes]).stream().pipeThrough(new DecompressionStream('gzip'));
+        return JSON.parse(await new Response(stream).text());
+      }""";
+
+  static final String         SCRIPT    = """
+      const webview = window.webview = window.webview || {};
+      if (!webview.decode) {
+        const decode = %s;
+        webview.decode = async value => {
+          if (!value || typeof value.__webview_gzip !== 'string')
+            return value;
+          const start = performance.now();
+          const result = await decode(value);
+          window.__webview_inflated(value.__webview_gzip.length, performance.now() - start);
+          return result;
+        };
+        webview.inflate = name => {
+          const call = window[name];
+          if (typeof call !== 'function' || call.inflated)
+            return;
+          const inflated = (...args) => call(...args).then(webview.decode);
+          inflated.inflated = true;
+          window[name] = inflated;
+        };
+      }
+      """.formatted(DECODE);
+
+  private static final int    MIN       = 64 * 1024;
+  private static final int    MAX       = 16 * 1024 * 1024;
+
+  /** The share of the size compression has to save, after the base64 overhead. */
+  private static final double MIN_SAVED = 0.25;
+  /** The default cost of encoding and decoding in nanoseconds per byte, about 50 MB/s. */
+  private static final double MAX_COST  = 20;
+  /** The weight of a new measurement in the moving averages. */
+  private static final double WEIGHT    = 0.25;
+
+  private final double        maxCost;
+  private volatile int        threshold;
+
+  private double              ratio     = 0.25;
+  private double              encodeCost;
+  private double              decodeCost;
+
+  BindCompression() {
+    this(1024 * 1024, MAX_COST);
+  }
+
+  /**
+   * @param threshold The initial size from which responses are compressed
+   * @param maxCost The cost in nanoseconds per byte up to which compression pays off
+   */
+  BindCompression(int threshold, double maxCost) {
+    this.threshold = threshold;
+    this.maxCost = maxCost;
+  }
+
+  /**
+   * Gets the size from which responses are compressed.
+   */
+  int threshold() {
+    return threshold;
+  }
+
+  /**
+   * Wraps a handler, compressing its responses from the threshold on.
+   */
+  WebViewBindCallback wrap(WebViewBindCallback handler) {
+    return jsonArgs -> encode(handler.apply(jsonArgs));
+  }
+
+  /**
+   * Compresses the JSON, if it is large enough and compression pays off.
+   */
+  String encode(String json) throws IOException {
+    if (json == null || json.length() < threshold)
+      return json;
+
+    long start = System.nanoTime();
+    byte[] utf8 = json.getBytes(StandardCharsets.UTF_8);
+    ByteArrayOutputStream buffer = new ByteArrayOutputStream(utf8.length / 4);
+    try (GZIPOutputStream gzip = new GZIPOutputStream(buffer, 64 * 1024)) {
+      gzip.write(utf8);
+    }
+    String encoded = Base64.getEncoder().encodeToString(buffer.toByteArray());
+
+    synchronized (this) {
+      ratio = average(ratio, (double) encoded.length() / json.length());
+      encodeCost = average(encodeCost, (double) (System.nanoTime() - start) / json.length());
+      adapt();
+    }
+
+    if (encoded.length() >= json.length())
+      return json;
+    return "{\"__webview_gzip\":\"" + encoded + "\"}";
+  }
+
+  /**
+   * Takes the time the page took to inflate a response of the given encoded size.
+   */
+  synchronized void decoded(long encodedLength, double millis) {
+    if (encodedLength <= 0)
+      return;
+
+    // Relate the cost to the size of the original response.
+    decodeCost = average(decodeCost, millis * 1_000_000 / encodedLength * ratio);
+    adapt();
+  }
+
+  /**
+   * Halves the threshold while compression saves enough at a low cost, and doubles it otherwise.
+   */
+  private void adapt() {
+    if (1 - ratio >= MIN_SAVED && encodeCost + decodeCost <= maxCost)
+      threshold = Math.max(MIN, threshold / 2);
+    else
+      threshold = Math.min(MAX, threshold * 2);
+  }
+
+  private static double average(double average, double value) {
+    return average == 0 ? value : average + WEIGHT * (value - average);
+  }
+}
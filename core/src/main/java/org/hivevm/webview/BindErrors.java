@@ -0,0 +1,125 @@
+/**
+ * MIT License
+ * 
+ * Copyright (c) 2025 HiveVM
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.hivevm.webview;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * The {@link BindErrors} turn the failures of handlers into structured errors for the page:
+ *
+ * <pre>
+ * <code>
+ *   { "code": "WEBVIEW_ERROR", "type": "java.lang.IllegalStateException", "message": "...",
+ *     "stack": ["..."] }
+ * </code>
+ * </pre>
+ *
+ * The stack is only included up to the configured depth, which is 0 by default. Failures are
+ * logged once per type and message, with later repetitions summarized, and the log is rate
+ * limited.
+ */
+class BindErrors {
+
+  /** The error code of failures other than {@link WebViewException}. */
+  static final String                   ERROR      = "WEBVIEW_ERROR";
+
+  private static final Logger           LOGGER     = Logger.getLogger(WebView.class.getName());
+
+  private static final int              MAX_SEEN   = 256;
+
+  private final Map<String, AtomicLong> seen       = new ConcurrentHashMap<>();
+  private final BindLimiter             log        = new BindLimiter(10, 10);
+
+  private volatile int                  stackDepth;
+
+  /**
+   * Sets the number of stack frames included in the errors.
+   */
+  void setStackDepth(int stackDepth) {
+    this.stackDepth = stackDepth;
+  }
+
+  /**
+   * Creates the JSON error for the page and reports the failure.
+   */
+  String toJson(Throwable error) {
+    if (error instanceof BindLimiter.BindRejectedException rejected)
+      return rejected.toJson();
+
+    String code = ERROR;
+    if (error instanceof WebViewException exception)
+      code = exception.getCode();
+    else
+      report(error);
+
+    StringBuilder json = new StringBuilder(128);
+    json.append("{\"code\":\"").append(WebViewUtil.jsonEscape(code));
+    json.append("\",\"type\":\"").append(error.getClass().getName());
+    if (error.getMessage() != null)
+      json.append("\",\"message\":\"").append(WebViewUtil.jsonEscape(error.getMessage()));
+    json.append('"');
+
+    int depth = stackDepth;
+    if (depth > 0) {
+      StackTraceElement[] stack = error.getStackTrace();
+      json.append(",\"stack\":[");
+      for (int i = 0; i < Math.min(depth, stack.length); i++) {
+        if (i > 0)
+          json.append(',');
+        json.append('"').append(WebViewUtil.jsonEscape(stack[i].toString())).append('"');
+      }
+      json.append(']');
+    }
+    return json.append('}').toString();
+  }
+
+  /**
+   * Logs the first occurrence of a failure with its stack, and then each time the number of
+   * repetitions reaches a power of 10.
+   */
+  private void report(Throwable error) {
+    String key = error.getClass().getName() + ": " + error.getMessage();
+    AtomicLong count = seen.get(key);
+    if (count == null) {
+      if (seen.size() >= MAX_SEEN)
+        seen.clear();
+      count = seen.computeIfAbsent(key, k -> new AtomicLong());
+    }
+
+    long repeated = count.incrementAndGet();
+    if (repeated == 1) {
+      if (log.tryAcquire())
+        LOGGER.log(Level.WARNING, "Bound function failed", error);
+    } else if (isPowerOf10(repeated) && log.tryAcquire())
+      LOGGER.log(Level.WARNING, "Bound function failed {0} times: {1}",
+          new Object[] { repeated, key });
+  }
+
+  private static boolean isPowerOf10(long value) {
+    while (value % 10 == 0)
+      value /= 10;
+    return value == 1;
+  }
+}
@@ -0,0 +1,121 @@
+/**
+ * MIT License
+ * 
+ * Copyright (c) 2025 HiveVM
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.hivevm.webview;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * The {@link BindLimiter} protects a bound function against a page calling it in a tight loop. A
+ * token bucket limits the rate of calls, and calls beyond the limit or the maximum queue depth are
+ * shed: they are rejected at once with {@link #SHED}, instead of waiting in a queue.
+ */
+class BindLimiter {
+
+  /** The error code the page receives for shed calls. */
+  static final String      SHED     = "WEBVIEW_SHED";
+
+  private final double     rate;
+  private final double     burst;
+
+  private double           tokens;
+  private long             refilled = System.nanoTime();
+
+  private final AtomicLong shed     = new AtomicLong();
+
+  /**
+   * @param rate The calls per second, or 0 for no limit
+   * @param burst The number of calls allowed at once
+   */
+  BindLimiter(double rate, int burst) {
+    this.rate = rate / 1_000_000_000d;
+    this.burst = burst;
+    this.tokens = burst;
+  }
+
+  /**
+   * Takes a token for a call, or returns <code>false</code> if the call must be shed.
+   */
+  boolean tryAcquire() {
+    if (rate <= 0)
+      return true;
+
+    synchronized (this) {
+      long now = System.nanoTime();
+      tokens = Math.min(burst, tokens + (now - refilled) * rate);
+      refilled = now;
+      if (tokens >= 1) {
+        tokens--;
+        return true;
+      }
+    }
+    return false;
+  }
+
+  /**
+   * Counts the shed call and creates the error it is rejected with.
+   */
+  BindRejectedException reject(String reason) {
+    shed.incrementAndGet();
+    return new BindRejectedException(reason);
+  }
+
+  /**
+   * Gets the number of calls shed so far.
+   */
+  long getShedCount() {
+    return shed.get();
+  }
+
+  /**
+   * Wraps a handler running on the UI thread, where calls can only be limited by rate.
+   */
+  WebViewBindCallback wrap(WebViewBindCallback handler) {
+    if (rate <= 0)
+      return handler;
+
+    return jsonArgs -> {
+      if (!tryAcquire())
+        throw reject("Rate limit exceeded");
+      return handler.apply(jsonArgs);
+    };
+  }
+
+  /**
+   * The error of a shed call. It is expected under load, so it has no stack trace and is not
+   * logged.
+   */
+  static class BindRejectedException extends RuntimeException {
+
+    private static final long serialVersionUID = 1L;
+
+    BindRejectedException(String message) {
+      super(message, null, false, false);
+    }
+
+    /**
+     * Gets the JSON error the page is rejected with.
+     */
+    String toJson() {
+      return "{\"code\":\"" + SHED + "\",\"message\":\"" + WebViewUtil.jsonEscape(getMessage())
+          + "\"}";
+    }
+  }
+}
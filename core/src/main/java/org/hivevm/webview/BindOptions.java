@@ -0,0 +1,274 @@
+/**
+ * MIT License
+ * 
+ * Copyright (c) 2025 HiveVM
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.hivevm.webview;
+
+import java.time.Duration;
+import java.util.concurrent.Executor;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * The {@link BindOptions} define how the handler of a bound function is executed:
+ *
+ * <ul>
+ * <li>{@link #inline()} runs it on the UI thread, for trivial getters.</li>
+ * <li>{@link #virtual()} runs each call on its own virtual thread, for I/O.</li>
+ * <li>{@link #compute()} runs it on a bounded pool sized to the processors, for CPU-bound
+ * work.</li>
+ * <li>{@link #executor(Executor)} runs it on the given executor.</li>
+ * </ul>
+ *
+ * Calls beyond the maximum number in flight wait in a queue. The compute pool takes its queued work
+ * by {@link Priority}, so interactive calls are never queued behind bulk work. The other executions
+ * have no shared queue to order, so they don't take a priority.
+ *
+ * Idempotent bindings can opt into sharing identical calls in flight with
+ * {@link #withSingleFlight()}, and into caching results by their arguments with
+ * {@link #withCache(int, Duration)}. Cached results are dropped with
+ * {@link WebView#invalidate(String)}.
+ *
+ * Under overload, calls beyond {@link #withRateLimit(double, int)} or
+ * {@link #withMaxQueued(int)} are rejected at once with the error code <code>WEBVIEW_SHED</code>,
+ * which keeps the latency of the accepted calls bounded.
+ *
+ * <pre>
+ * <code>
+ *   wv.bind("export", handler,
+ *       BindOptions.compute().withPriority(Priority.BULK).withMaxInFlight(2));
+ * </code>
+ * </pre>
+ */
+public class BindOptions {
+
+  /**
+   * Defines where a handler runs.
+   */
+  public enum Execution {
+    INLINE,
+    VIRTUAL,
+    COMPUTE,
+    EXECUTOR
+  }
+
+  /**
+   * Defines the lane of queued calls, from the most to the least urgent.
+   */
+  public enum Priority {
+    INTERACTIVE,
+    NORMAL,
+    BULK
+  }
+
+  private final Execution execution;
+  private final Executor  executor;
+
+  private Priority        priority    = Priority.NORMAL;
+  private int             maxInFlight = Integer.MAX_VALUE;
+
+  private boolean         singleFlight;
+  private int             cacheSize;
+  private Duration        cacheTtl    = Duration.ZERO;
+
+  private double          rateLimit;
+  private int             burst;
+  private int             maxQueued   = Integer.MAX_VALUE;
+  private boolean         compressed;
+
+  private BindOptions(Execution execution, Executor executor) {
+    this.execution = execution;
+    this.executor = executor;
+  }
+
+  /**
+   * Runs the handler on the UI thread.
+   */
+  public static BindOptions inline() {
+    return new BindOptions(Execution.INLINE, null);
+  }
+
+  /**
+   * Runs each call on its own virtual thread.
+   */
+  public static BindOptions virtual() {
+    return new BindOptions(Execution.VIRTUAL, null);
+  }
+
+  /**
+   * Runs the handler on the shared compute pool, which has a thread per processor.
+   */
+  public static BindOptions compute() {
+    return new BindOptions(Execution.COMPUTE, null);
+  }
+
+  /**
+   * Runs the handler on the given executor.
+   */
+  public static BindOptions executor(@NotNull Executor executor) {
+    return new BindOptions(Execution.EXECUTOR, executor);
+  }
+
+  public Execution getExecution() {
+    return execution;
+  }
+
+  public Executor getExecutor() {
+    return executor;
+  }
+
+  public Priority getPriority() {
+    return priority;
+  }
+
+  public int getMaxInFlight() {
+    return maxInFlight;
+  }
+
+  public boolean isSingleFlight() {
+    return singleFlight;
+  }
+
+  public int getCacheSize() {
+    return cacheSize;
+  }
+
+  public Duration getCacheTtl() {
+    return cacheTtl;
+  }
+
+  public double getRateLimit() {
+    return rateLimit;
+  }
+
+  public int getBurst() {
+    return burst;
+  }
+
+  public int getMaxQueued() {
+    return maxQueued;
+  }
+
+  public boolean isCompressed() {
+    return compressed;
+  }
+
+  /**
+   * Sets the lane of the calls on the compute pool.
+   */
+  public BindOptions withPriority(@NotNull Priority priority) {
+    if (execution != Execution.COMPUTE)
+      throw new IllegalArgumentException("withPriority is only supported for compute calls");
+
+    BindOptions options = copy();
+    options.priority = priority;
+    return options;
+  }
+
+  /**
+   * Limits the number of calls running at once; further calls wait in a queue.
+   */
+  public BindOptions withMaxInFlight(int maxInFlight) {
+    if (maxInFlight < 1)
+      throw new IllegalArgumentException("maxInFlight must be positive: " + maxInFlight);
+
+    BindOptions options = copy();
+    options.maxInFlight = maxInFlight;
+    return options;
+  }
+
+  /**
+   * Lets identical calls in flight, having the same arguments, share a single execution.
+   */
+  public BindOptions withSingleFlight() {
+    BindOptions options = copy();
+    options.singleFlight = true;
+    return options;
+  }
+
+  /**
+   * Caches up to the given number of results by their arguments, evicting the least recently used,
+   * for the given time to live.
+   */
+  public BindOptions withCache(int maxEntries, @NotNull Duration ttl) {
+    if (maxEntries < 1)
+      throw new IllegalArgumentException("maxEntries must be positive: " + maxEntries);
+    if (ttl.isZero() || ttl.isNegative())
+      throw new IllegalArgumentException("ttl must be positive: " + ttl);
+
+    BindOptions options = copy();
+    options.cacheSize = maxEntries;
+    options.cacheTtl = ttl;
+    return options;
+  }
+
+  /**
+   * Limits the calls per second with a token bucket, allowing bursts of the given size. Calls
+   * beyond the limit are shed.
+   */
+  public BindOptions withRateLimit(double callsPerSecond, int burst) {
+    if (callsPerSecond <= 0 || burst < 1)
+      throw new IllegalArgumentException("Invalid rate limit: " + callsPerSecond + "/" + burst);
+
+    BindOptions options = copy();
+    options.rateLimit = callsPerSecond;
+    options.burst = burst;
+    return options;
+  }
+
+  /**
+   * Limits the number of calls waiting for a slot in flight; further calls are shed. Calls only
+   * wait for a slot with {@link #withMaxInFlight(int)}, which defaults to the size of the pool for
+   * {@link #compute()}, and is required for the other executions. Inline calls never wait, so
+   * they reject this option.
+   */
+  public BindOptions withMaxQueued(int maxQueued) {
+    if (maxQueued < 0)
+      throw new IllegalArgumentException("maxQueued must not be negative: " + maxQueued);
+    if (execution == Execution.INLINE)
+      throw new IllegalArgumentException("withMaxQueued is not supported for inline calls");
+
+    BindOptions options = copy();
+    options.maxQueued = maxQueued;
+    return options;
+  }
+
+  /**
+   * Compresses large responses, which the page inflates transparently. The size from which
+   * responses are compressed adapts to the measured costs.
+   */
+  public BindOptions withCompression() {
+    BindOptions options = copy();
+    options.compressed = true;
+    return options;
+  }
+
+  private BindOptions copy() {
+    BindOptions options = new BindOptions(execution, executor);
+    options.priority = priority;
+    options.maxInFlight = maxInFlight;
+    options.singleFlight = singleFlight;
+    options.cacheSize = cacheSize;
+    options.cacheTtl = cacheTtl;
+    options.rateLimit = rateLimit;
+    options.burst = burst;
+    options.maxQueued = maxQueued;
+    options.compressed = compressed;
+    return options;
+  }
+}
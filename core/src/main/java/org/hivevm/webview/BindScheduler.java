@@ -0,0 +1,139 @@
+/**
+ * MIT License
+ * 
+ * Copyright (c) 2025 HiveVM
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.hivevm.webview;
+
+import java.util.ArrayDeque;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.PriorityBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * The {@link BindScheduler} runs the calls of a bound function according to its
+ * {@link BindOptions}. Calls beyond the maximum in flight wait in a queue, and the shared compute
+ * pool takes its work by priority. Calls beyond the rate limit or the maximum queue depth are shed.
+ */
+class BindScheduler implements WebViewAsyncBindCallback {
+
+  private static final Executor     VIRTUAL = Executors.newVirtualThreadPerTaskExecutor();
+
+  private final WebViewBindCallback handler;
+  private final BindOptions         options;
+  private final Executor            executor;
+  private final BindLimiter         limiter;
+  private final int                 maxInFlight;
+
+  private final Queue<BindTask>     waiting = new ArrayDeque<>();
+  private int                       running;
+
+  BindScheduler(WebViewBindCallback handler, BindOptions options, BindLimiter limiter) {
+    this.handler = handler;
+    this.options = options;
+    this.limiter = limiter;
+    this.executor = switch (options.getExecution()) {
+      case COMPUTE -> ComputePool.EXECUTOR;
+      case EXECUTOR -> options.getExecutor();
+      default -> VIRTUAL;
+    };
+
+    // Calls only wait in the queue of the scheduler while all slots in flight are taken.
+    int maxInFlight = options.getMaxInFlight();
+    if (options.getMaxQueued() != Integer.MAX_VALUE && maxInFlight == Integer.MAX_VALUE) {
+      if (options.getExecution() != BindOptions.Execution.COMPUTE)
+        throw new IllegalArgumentException("withMaxQueued requires withMaxInFlight");
+      maxInFlight = ComputePool.THREADS;
+    }
+    this.maxInFlight = maxInFlight;
+  }
+
+  @Override
+  public CompletableFuture<String> apply(String jsonArgs) {
+    if (!limiter.tryAcquire())
+      return CompletableFuture.failedFuture(limiter.reject("Rate limit exceeded"));
+
+    BindTask task = new BindTask(handler, jsonArgs, options.getPriority());
+    synchronized (this) {
+      if (running < maxInFlight)
+        start(task);
+      else if (waiting.size() < options.getMaxQueued())
+        waiting.add(task);
+      else
+        return CompletableFuture.failedFuture(limiter.reject("Too many queued calls"));
+    }
+    return task;
+  }
+
+  /**
+   * Starts the task, which is done while holding the lock. The slot is released once the task has
+   * actually left its thread, not already when it is cancelled.
+   */
+  private boolean start(BindTask task) {
+    running++;
+    task.onExit(this::finished);
+    try {
+      executor.execute(task);
+      return true;
+    } catch (RejectedExecutionException e) {
+      running--;
+      task.completeExceptionally(e);
+      return false;
+    }
+  }
+
+  /**
+   * Starts the next queued call that is still wanted.
+   */
+  private synchronized void finished() {
+    running--;
+
+    BindTask next;
+    while ((next = waiting.poll()) != null)
+      if (!next.isDone() && start(next))
+        break;
+  }
+
+  /**
+   * The compute pool has a thread per processor and takes its tasks by priority.
+   */
+  private static class ComputePool {
+
+    private static final int      THREADS = Runtime.getRuntime().availableProcessors();
+    private static final Executor EXECUTOR;
+
+    static {
+      AtomicInteger count = new AtomicInteger();
+      ThreadFactory factory = runnable -> {
+        Thread thread = new Thread(runnable, "WebView Compute - #" + count.incrementAndGet());
+        thread.setDaemon(true);
+        return thread;
+      };
+
+      EXECUTOR = new ThreadPoolExecutor(THREADS, THREADS, 60, TimeUnit.SECONDS,
+          new PriorityBlockingQueue<>(), factory);
+    }
+  }
+}
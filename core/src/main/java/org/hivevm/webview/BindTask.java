@@ -0,0 +1,100 @@
+/**
+ * MIT License
+ * 
+ * Copyright (c) 2025 HiveVM
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.hivevm.webview;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicLong;
+import org.hivevm.webview.BindOptions.Priority;
+
+/**
+ * The {@link BindTask} runs a blocking handler on an executor. Unlike
+ * {@link CompletableFuture#supplyAsync}, cancelling the task interrupts the thread running the
+ * handler.
+ *
+ * Tasks are ordered by priority and then by creation, for executors that queue by priority.
+ */
+class BindTask extends CompletableFuture<String> implements Runnable, Comparable<BindTask> {
+
+  private static final AtomicLong   SEQUENCE = new AtomicLong();
+
+  private final WebViewBindCallback handler;
+  private final String              request;
+  private final Priority            priority;
+  private final long                sequence = SEQUENCE.incrementAndGet();
+
+  private Thread                    runner;
+  private Runnable                  exit;
+
+  BindTask(WebViewBindCallback handler, String request, Priority priority) {
+    this.handler = handler;
+    this.request = request;
+    this.priority = priority;
+  }
+
+  @Override
+  public int compareTo(BindTask other) {
+    int order = priority.compareTo(other.priority);
+    return order != 0 ? order : Long.compare(sequence, other.sequence);
+  }
+
+  @Override
+  public void run() {
+    try {
+      synchronized (this) {
+        if (isDone())
+          return; // Cancelled before it started.
+        runner = Thread.currentThread();
+      }
+
+      try {
+        complete(handler.apply(request));
+      } catch (Throwable e) {
+        completeExceptionally(e);
+      } finally {
+        synchronized (this) {
+          runner = null;
+          Thread.interrupted(); // Don't leak an interrupt into the executor.
+        }
+      }
+    } finally {
+      if (exit != null)
+        exit.run();
+    }
+  }
+
+  /**
+   * Sets the action run once the task has left its thread. A cancelled task completes at once,
+   * while its handler may still be running.
+   */
+  void onExit(Runnable exit) {
+    this.exit = exit;
+  }
+
+  @Override
+  public boolean cancel(boolean mayInterruptIfRunning) {
+    boolean cancelled = super.cancel(mayInterruptIfRunning);
+    synchronized (this) {
+      if (cancelled && mayInterruptIfRunning && runner != null)
+        runner.interrupt();
+    }
+    return cancelled;
+  }
+}
@@ -0,0 +1,119 @@
+/**
+ * MIT License
+ * 
+ * Copyright (c) 2025 HiveVM
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.hivevm.webview;
+
+import java.util.BitSet;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import org.hivevm.webview.ffi.webview_bind$fn;
+
+/**
+ * The {@link BindingTable} maps the bound functions of a {@link WebView} to slots. The slot index
+ * is passed as the user argument of the native binding, so all bindings can share a single upcall
+ * stub.
+ *
+ * The callback of a slot can be replaced from any thread, so handlers are swapped without
+ * unbinding and binding the function natively.
+ */
+class BindingTable {
+
+  private final Map<String, Binding> names = new ConcurrentHashMap<>();
+  private final BitSet               used  = new BitSet();
+
+  private volatile AtomicReferenceArray<Binding> slots = new AtomicReferenceArray<>(16);
+
+  /**
+   * Gets the callback of a slot, or <code>null</code> if the slot has been released.
+   */
+  public webview_bind$fn.Function get(long index) {
+    var slots = this.slots;
+    Binding binding = index < 0 || index >= slots.length() ? null : slots.get((int) index);
+    return binding == null ? null : binding.callback;
+  }
+
+  /**
+   * Gets the slot of a bound function, or -1 if there is none.
+   */
+  public int indexOf(String name) {
+    Binding binding = names.get(name);
+    return binding == null ? -1 : binding.index;
+  }
+
+  /**
+   * Replaces the callback of a bound function, returning <code>false</code> if there is none.
+   */
+  public boolean replace(String name, webview_bind$fn.Function callback) {
+    Binding binding = names.get(name);
+    if (binding == null)
+      return false;
+
+    binding.callback = callback;
+    return true;
+  }
+
+  /**
+   * Assigns a free slot to the named callback and returns its index. If the name is already bound,
+   * its callback is replaced and -1 is returned.
+   */
+  public synchronized int add(String name, webview_bind$fn.Function callback) {
+    if (replace(name, callback))
+      return -1;
+
+    int index = used.nextClearBit(0);
+    if (index >= slots.length()) {
+      var grown = new AtomicReferenceArray<Binding>(slots.length() * 2);
+      for (int i = 0; i < slots.length(); i++)
+        grown.set(i, slots.get(i));
+      slots = grown;
+    }
+
+    Binding binding = new Binding(index, callback);
+    used.set(index);
+    names.put(name, binding);
+    slots.set(index, binding);
+    return index;
+  }
+
+  /**
+   * Releases the slot of the named callback, returning <code>false</code> if there is none.
+   */
+  public synchronized boolean remove(String name) {
+    Binding binding = names.remove(name);
+    if (binding == null)
+      return false;
+
+    slots.set(binding.index, null);
+    used.clear(binding.index);
+    return true;
+  }
+
+  private static class Binding {
+
+    private final int                         index;
+    private volatile webview_bind$fn.Function callback;
+
+    private Binding(int index, webview_bind$fn.Function callback) {
+      this.index = index;
+      this.callback = callback;
+    }
+  }
+}
@@ -0,0 +1,157 @@
+/**
+ * MIT License
+ * 
+ * Copyright (c) 2025 HiveVM
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.hivevm.webview;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The {@link CallRegistry} tracks the asynchronous calls started through
+ * <code>webview.call(name, args, {signal, timeout})</code>, so the page can cancel them. Calls are
+ * cancelled when the page aborts them, when their deadline passes and when the page is left.
+ * Cancelled calls still get a response, so the page releases its promise of the native call.
+ */
+class CallRegistry {
+
+  static final String                               CALL   = "__webview_call";
+  static final String                               CANCEL = "__webview_cancel";
+
+  static final String                               SCRIPT = """
+      const webview = window.webview = window.webview || {};
+      let next = 0;
+      webview.call = (name, args = [], options = {}) => {
+        const { signal, timeout = 0 } = options;
+        if (signal && signal.aborted)
+          return Promise.reject(signal.reason);
+
+        const id = ++next;
+        return new Promise((resolve, reject) => {
+          const cancel = reason => {
+            window.__webview_cancel(id);
+            reject(reason);
+          };
+          const abort = () => cancel(signal.reason);
+          const timer = timeout > 0
+            ? setTimeout(() => cancel(new DOMException('Timeout', 'TimeoutError')), timeout) : 0;
+          if (signal)
+            signal.addEventListener('abort', abort, { once: true });
+
+          window.__webview_call(id, name, args, timeout)
+            .then(value => webview.decode ? webview.decode(value) : value)
+            .then(resolve, reject)
+            .finally(() => {
+              clearTimeout(timer);
+              if (signal)
+                signal.removeEventListener('abort', abort);
+            });
+        });
+      };
+      """;
+
+  /** Drops the calls still running for the previous page, run on page load. */
+  static final String                               RESET  = "window.__webview_cancel(0);";
+
+  private final Map<String, WebViewAsyncBindCallback> handlers = new ConcurrentHashMap<>();
+  private final Map<Long, Call>                       calls    = new ConcurrentHashMap<>();
+
+  void register(String name, WebViewAsyncBindCallback handler) {
+    handlers.put(name, handler);
+  }
+
+  void unregister(String name) {
+    handlers.remove(name);
+  }
+
+  WebViewAsyncBindCallback get(String name) {
+    return name == null ? null : handlers.get(name);
+  }
+
+  /**
+   * Starts a call of the handler. An exception or a missing future fails the call, since nothing
+   * may escape the native callback.
+   */
+  static CompletableFuture<String> start(WebViewAsyncBindCallback handler, String jsonArgs) {
+    try {
+      CompletableFuture<String> future = handler.apply(jsonArgs);
+      if (future != null)
+        return future;
+      return CompletableFuture.failedFuture(
+          new NullPointerException("The handler of the call returned no future"));
+    } catch (Throwable e) {
+      return CompletableFuture.failedFuture(e);
+    }
+  }
+
+  /**
+   * Tracks a running call until it completes, cancelling it once the timeout in milliseconds
+   * passes.
+   */
+  Call track(long id, CompletableFuture<String> future, long timeout) {
+    Call call = new Call(future);
+    calls.put(id, call);
+    future.whenComplete((response, error) -> calls.remove(id, call));
+
+    if (timeout > 0)
+      CompletableFuture.delayedExecutor(timeout, TimeUnit.MILLISECONDS).execute(call::cancel);
+    return call;
+  }
+
+  /**
+   * Cancels a call, or all calls if the id is 0.
+   */
+  void cancel(long id) {
+    if (id == 0) {
+      calls.values().forEach(Call::cancel);
+      calls.clear();
+      return;
+    }
+
+    Call call = calls.remove(id);
+    if (call != null)
+      call.cancel();
+  }
+
+  /**
+   * A tracked call, which tells whether it was cancelled by the page or its timeout, rather than by
+   * its handler.
+   */
+  static final class Call {
+
+    private final CompletableFuture<String> future;
+    private volatile boolean                cancelled;
+
+    private Call(CompletableFuture<String> future) {
+      this.future = future;
+    }
+
+    boolean isCancelled() {
+      return cancelled;
+    }
+
+    private void cancel() {
+      // The future completes its stages while cancelling, so mark the call first.
+      this.cancelled = true;
+      future.cancel(true);
+    }
+  }
+}
@@ -0,0 +1,84 @@
+/**
+ * MIT License
+ * 
+ * Copyright (c) 2025 HiveVM
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.hivevm.webview;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * The {@link EvalBatch} collects the scripts evaluated within a dispatch tick or a time window, so
+ * they are passed to the page with a single native call and parsed at once. Each script runs in
+ * its own try block, so an error in one script does not stop the others.
+ */
+class EvalBatch {
+
+  private static final int    PREVIEW   = 120;
+
+  private final Queue<String> scripts   = new ConcurrentLinkedQueue<>();
+  private final AtomicBoolean scheduled = new AtomicBoolean();
+
+  /**
+   * Queues the script, returning <code>true</code> if the batch has to be scheduled.
+   */
+  boolean add(String script) {
+    scripts.offer(script);
+    return scheduled.compareAndSet(false, true);
+  }
+
+  /**
+   * Takes up to the given number of queued scripts as a single script, or returns
+   * <code>null</code> if there are none. With sources, scripts are tagged with an id instead of
+   * the start of their source.
+   */
+  String take(int max, ScriptSources sources) {
+    // Scripts queued from now on schedule another batch.
+    scheduled.set(false);
+
+    String script;
+    StringBuilder batch = null;
+    for (int i = 0; i < max && (script = scripts.poll()) != null; i++) {
+      if (batch == null)
+        batch = new StringBuilder(script.length() * 2 + 128);
+
+      if (sources != null) {
+        batch.append("try {\n").append(script).append("\n}");
+        batch.append(ScriptSources.catchBlock(sources.add(script)));
+        continue;
+      }
+
+      // Only the start of the script is part of the error, which keeps the batch small.
+      String preview = script.length() > PREVIEW ? script.substring(0, PREVIEW) + "..." : script;
+      batch.append("try {\n").append(script).append("\n} catch (e) {\n");
+      batch.append("  console.error('[Webview]', ");
+      batch.append("'An error occurred whilst evaluating script:', \"");
+      batch.append(WebViewUtil.jsonEscape(preview)).append("\", e);\n}\n");
+    }
+    return batch == null ? null : batch.toString();
+  }
+
+  /**
+   * Returns <code>true</code> if scripts are left and the batch has to be scheduled again.
+   */
+  boolean reschedule() {
+    return !scripts.isEmpty() && scheduled.compareAndSet(false, true);
+  }
+}
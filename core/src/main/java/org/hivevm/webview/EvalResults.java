@@ -0,0 +1,87 @@
+/**
+ * MIT License
+ * 
+ * Copyright (c) 2025 HiveVM
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.hivevm.webview;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * The {@link EvalResults} correlate the results of evaluated expressions with their futures. The
+ * page passes each result as <code>[id, ok, value]</code> to the {@link #RESULT} binding. Pending
+ * futures are kept in a lock-free table by sequence number, and removed once they complete or
+ * time out, so the table cannot leak. A result that can't be passed as JSON, like a
+ * <code>BigInt</code> or a cyclic object, fails the future.
+ */
+class EvalResults {
+
+  static final String                                  RESULT  = "__webview_result";
+
+  private final AtomicLong                             next    = new AtomicLong();
+  private final Map<Long, CompletableFuture<String>>   pending = new ConcurrentHashMap<>();
+
+  /**
+   * Registers a future for the expression, returning the script to evaluate it.
+   */
+  String add(String expression, CompletableFuture<String> future, long timeout) {
+    long id = next.incrementAndGet();
+    pending.put(id, future);
+    future.orTimeout(timeout, TimeUnit.MILLISECONDS)
+        .whenComplete((result, error) -> pending.remove(id));
+
+    String result = "window." + RESULT + "(" + id;
+    String failure = result + ", false, String(e && e.stack || e))";
+    return "Promise.resolve().then(() => (\n" + expression + "\n)).then(\n"
+        + "  value => {\n"
+        + "    try {\n"
+        + "      " + result + ", true, value === undefined ? null : value);\n"
+        + "    } catch (e) {\n"
+        + "      " + failure + ";\n"
+        + "    }\n"
+        + "  },\n"
+        + "  e => " + failure + ");";
+  }
+
+  /**
+   * Gets the number of results still pending.
+   */
+  int size() {
+    return pending.size();
+  }
+
+  /**
+   * Completes the future of the result passed by the page.
+   */
+  String complete(String jsonArgs) {
+    BindArgs args = BindArgs.of(jsonArgs);
+    CompletableFuture<String> future = pending.remove(args.getLong(0));
+    if (future == null)
+      return null; // Timed out or cancelled.
+
+    if (args.getBoolean(1))
+      future.complete(args.getRaw(2));
+    else
+      future.completeExceptionally(new WebViewException("WEBVIEW_SCRIPT", args.getString(2)));
+    return null;
+  }
+}
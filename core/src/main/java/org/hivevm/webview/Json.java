@@ -0,0 +1,129 @@
+/**
+ * MIT License
+ * 
+ * Copyright (c) 2025 HiveVM
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.hivevm.webview;
+
+/**
+ * The {@link Json} provides the scanning primitives used to read JSON without building a tree.
+ * Positions are indices into the JSON text; the text is expected to be well formed.
+ */
+class Json {
+
+  private Json() {}
+
+  /**
+   * Gets the index of the next non whitespace character.
+   */
+  static int skipWhitespace(String json, int index) {
+    while (index < json.length()) {
+      char ch = json.charAt(index);
+      if (ch != ' ' && ch != '\n' && ch != '\r' && ch != '\t')
+        break;
+      index++;
+    }
+    return index;
+  }
+
+  /**
+   * Gets the index after the value starting at the index.
+   */
+  static int skipValue(String json, int index) {
+    char ch = json.charAt(index);
+    if (ch == '"')
+      return Json.skipString(json, index);
+
+    if (ch == '[' || ch == '{') {
+      int depth = 0;
+      while (index < json.length()) {
+        ch = json.charAt(index);
+        if (ch == '"') {
+          index = Json.skipString(json, index);
+          continue;
+        }
+
+        index++;
+        if (ch == '[' || ch == '{')
+          depth++;
+        else if ((ch == ']' || ch == '}') && --depth == 0)
+          return index;
+      }
+      throw new IllegalArgumentException("Unterminated JSON value");
+    }
+
+    // Numbers and literals end at the next delimiter.
+    while (index < json.length()) {
+      ch = json.charAt(index);
+      if (ch == ',' || ch == ']' || ch == '}' || ch == ':' || ch == ' ' || ch == '\n'
+          || ch == '\r' || ch == '\t')
+        break;
+      index++;
+    }
+    return index;
+  }
+
+  /**
+   * Gets the index after the string starting with the quote at the index.
+   */
+  static int skipString(String json, int index) {
+    for (index++; index < json.length(); index++) {
+      char ch = json.charAt(index);
+      if (ch == '"')
+        return index + 1;
+      if (ch == '\\')
+        index++;
+    }
+    throw new IllegalArgumentException("Unterminated JSON string");
+  }
+
+  /**
+   * Decodes the string between the given indices, which include the quotes.
+   */
+  static String decodeString(String json, int start, int end) {
+    // Only search the string itself, not the rest of the arguments.
+    int escape = json.indexOf('\\', start + 1, end - 1);
+    if (escape < 0)
+      return json.substring(start + 1, end - 1);
+
+    StringBuilder builder = new StringBuilder(end - start);
+    builder.append(json, start + 1, escape);
+    for (int i = escape; i < end - 1; i++) {
+      char ch = json.charAt(i);
+      if (ch != '\\') {
+        builder.append(ch);
+        continue;
+      }
+
+      ch = json.charAt(++i);
+      switch (ch) {
+        case 'n' -> builder.append('\n');
+        case 't' -> builder.append('\t');
+        case 'r' -> builder.append('\r');
+        case 'b' -> builder.append('\b');
+        case 'f' -> builder.append('\f');
+        case 'u' -> {
+          builder.append((char) Integer.parseInt(json, i + 1, i + 5, 16));
+          i += 4;
+        }
+        default -> builder.append(ch);
+      }
+    }
+    return builder.toString();
+  }
+}
@@ -0,0 +1,725 @@
+/**
+ * MIT License
+ * 
+ * Copyright (c) 2025 HiveVM
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.hivevm.webview;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.GenericArrayType;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.RecordComponent;
+import java.lang.reflect.Type;
+import java.lang.reflect.TypeVariable;
+import java.lang.reflect.WildcardType;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+/**
+ * The {@link JsonCodec} decodes values from JSON text and encodes them into a {@link JsonWriter}.
+ * Codecs are created once per type: records and plain objects are mapped through method handles
+ * resolved up front, so no reflection happens per call.
+ *
+ * Supported are strings, primitives and their wrappers, big numbers, enums, arrays, collections,
+ * maps with string keys, records and classes with a public no-arg constructor and public fields.
+ * Collections and maps are decoded into the declared type, or a standard implementation of it.
+ *
+ * Records and classes are accessed through a private lookup, so on the module path their package
+ * must be opened to this module, e.g. <code>opens com.example.model to org.hivevm.webview;</code>.
+ */
+abstract class JsonCodec<T> {
+
+  private static final ClassValue<JsonCodec<?>> CODECS = new ClassValue<>() {
+
+    @Override
+    protected JsonCodec<?> computeValue(Class<?> type) {
+      return JsonCodec.create(type);
+    }
+  };
+
+  /**
+   * The implementations used for interfaces and abstract types of collections and maps, in the
+   * order of preference.
+   */
+  private static final Class<?>[] IMPLEMENTATIONS = {ArrayList.class, LinkedHashSet.class,
+      TreeSet.class, ArrayDeque.class, LinkedHashMap.class, TreeMap.class, ConcurrentHashMap.class,
+      ConcurrentSkipListMap.class};
+
+  /**
+   * Gets the codec for the type.
+   */
+  @SuppressWarnings("unchecked")
+  static <T> JsonCodec<T> of(Class<T> type) {
+    return (JsonCodec<T>) CODECS.get(type);
+  }
+
+  /**
+   * Gets the codec for a generic type, as declared by record components or fields.
+   */
+  static JsonCodec<?> of(Type type) {
+    return switch (type) {
+      case Class<?> c -> CODECS.get(c);
+      case ParameterizedType p when p.getRawType() instanceof Class<?> raw
+          && Collection.class.isAssignableFrom(raw) ->
+        new ListCodec(raw, JsonCodec.of(p.getActualTypeArguments()[0]));
+      case ParameterizedType p when p.getRawType() instanceof Class<?> raw
+          && Map.class.isAssignableFrom(raw) ->
+        new MapCodec(raw, JsonCodec.of(p.getActualTypeArguments()[1]));
+      case ParameterizedType p -> JsonCodec.of(p.getRawType());
+      case GenericArrayType a -> CODECS.get(Object[].class);
+      case WildcardType w -> JsonCodec.of(w.getUpperBounds()[0]);
+      case TypeVariable<?> v -> JsonCodec.of(v.getBounds()[0]);
+      default -> CODECS.get(Object.class);
+    };
+  }
+
+  /**
+   * Gets a codec for a nested type that is only resolved on first use, so self-referential types
+   * like trees don't recurse while their codec is created.
+   */
+  static JsonCodec<Object> lazy(Type type) {
+    return new LazyCodec(type);
+  }
+
+  /**
+   * Encodes any value, choosing the codec by its runtime type.
+   */
+  static void writeAny(Object value, JsonWriter out) throws Throwable {
+    if (value == null)
+      out.nullValue();
+    else
+      JsonCodec.of(value.getClass()).encodeValue(value, out);
+  }
+
+  /**
+   * Decodes the value between the given indices.
+   */
+  final T read(String json, int start, int end) throws Throwable {
+    return json.startsWith("null", start) ? nullValue() : decode(json, start, end);
+  }
+
+  /**
+   * Encodes the value, which may be <code>null</code>.
+   */
+  final void write(T value, JsonWriter out) throws Throwable {
+    if (value == null)
+      out.nullValue();
+    else
+      encode(value, out);
+  }
+
+  @SuppressWarnings("unchecked")
+  private void encodeValue(Object value, JsonWriter out) throws Throwable {
+    encode((T) value, out);
+  }
+
+  /**
+   * Gets the value used for <code>null</code> or missing members.
+   */
+  T nullValue() {
+    return null;
+  }
+
+  abstract T decode(String json, int start, int end) throws Throwable;
+
+  abstract void encode(T value, JsonWriter out) throws Throwable;
+
+  private static JsonCodec<?> create(Class<?> type) {
+    if (type == String.class || type == CharSequence.class)
+      return new StringCodec();
+    if (type == boolean.class || type == Boolean.class)
+      return new BooleanCodec(type.isPrimitive());
+    if (type == long.class || type == Long.class)
+      return new NumberCodec<>(type.isPrimitive() ? 0L : null, JsonCodec::parseLong);
+    if (type == int.class || type == Integer.class)
+      return new NumberCodec<>(type.isPrimitive() ? 0 : null,
+          (json, s, e) -> Math.toIntExact(JsonCodec.parseLong(json, s, e)));
+    if (type == short.class || type == Short.class)
+      return new NumberCodec<>(type.isPrimitive() ? (short) 0 : null,
+          (json, s, e) -> (short) JsonCodec.parseLong(json, s, e, Short.MIN_VALUE,
+              Short.MAX_VALUE));
+    if (type == byte.class || type == Byte.class)
+      return new NumberCodec<>(type.isPrimitive() ? (byte) 0 : null,
+          (json, s, e) -> (byte) JsonCodec.parseLong(json, s, e, Byte.MIN_VALUE,
+              Byte.MAX_VALUE));
+    if (type == double.class || type == Double.class)
+      return new NumberCodec<>(type.isPrimitive() ? 0d : null,
+          (json, s, e) -> Double.parseDouble(json.substring(s, e)));
+    if (type == float.class || type == Float.class)
+      return new NumberCodec<>(type.isPrimitive() ? 0f : null,
+          (json, s, e) -> Float.parseFloat(json.substring(s, e)));
+    if (type == char.class || type == Character.class)
+      return new CharCodec(type.isPrimitive());
+    if (type == BigDecimal.class)
+      return new NumberCodec<>(null, (json, s, e) -> new BigDecimal(json.substring(s, e)));
+    if (type == BigInteger.class)
+      return new NumberCodec<>(null,
+          (json, s, e) -> new BigDecimal(json.substring(s, e)).toBigIntegerExact());
+    if (type.isEnum())
+      return new EnumCodec(type);
+    if (type.isArray())
+      return new ArrayCodec(type);
+    if (Collection.class.isAssignableFrom(type))
+      return new ListCodec(type, CODECS.get(Object.class));
+    if (Map.class.isAssignableFrom(type))
+      return new MapCodec(type, CODECS.get(Object.class));
+    if (Number.class.isAssignableFrom(type))
+      return new NumberCodec<>(null, (json, s, e) -> Double.parseDouble(json.substring(s, e)));
+    if (type == Object.class)
+      return new ObjectCodec();
+    if (type.isRecord())
+      return new RecordCodec(type);
+    return new BeanCodec(type);
+  }
+
+  private static long parseLong(String json, int start, int end) {
+    try {
+      return Long.parseLong(json, start, end, 10);
+    } catch (NumberFormatException e) {
+      return (long) Double.parseDouble(json.substring(start, end));
+    }
+  }
+
+  /**
+   * Parses an integral number, failing with an {@link ArithmeticException} if it doesn't fit the
+   * range like {@link Math#toIntExact(long)}.
+   */
+  private static long parseLong(String json, int start, int end, long min, long max) {
+    long value = JsonCodec.parseLong(json, start, end);
+    if (value < min || value > max)
+      throw new ArithmeticException("Out of range: " + value);
+    return value;
+  }
+
+  private static MethodHandles.Lookup lookup(Class<?> type) throws IllegalAccessException {
+    // Named modules only read the modules they require, so read the module of the type first.
+    JsonCodec.class.getModule().addReads(type.getModule());
+    return MethodHandles.privateLookupIn(type, MethodHandles.lookup());
+  }
+
+  /**
+   * Gets the no-arg constructor of a collection or map type. Interfaces and abstract types are
+   * created through the first standard implementation that is assignable to them. Constructors are
+   * only resolved for decoding, so any collection can be encoded.
+   */
+  private static MethodHandle constructor(Class<?> type) {
+    Class<?> implementation = type;
+    if (type.isInterface() || Modifier.isAbstract(type.getModifiers())) {
+      implementation = null;
+      for (Class<?> candidate : IMPLEMENTATIONS)
+        if (type.isAssignableFrom(candidate)) {
+          implementation = candidate;
+          break;
+        }
+      if (implementation == null)
+        throw new IllegalArgumentException("Unable to map collection: " + type.getName());
+    }
+
+    try {
+      return MethodHandles.publicLookup()
+          .findConstructor(implementation, MethodType.methodType(void.class))
+          .asType(MethodType.methodType(Object.class));
+    } catch (ReflectiveOperationException e) {
+      throw new IllegalArgumentException("Unable to map collection: " + type.getName(), e);
+    }
+  }
+
+  /**
+   * Calls the handler for each member of the object between the given indices.
+   */
+  private static void readMembers(String json, int start, Member member) throws Throwable {
+    int index = Json.skipWhitespace(json, start + 1);
+    while (index < json.length() && json.charAt(index) == '"') {
+      int nameEnd = Json.skipString(json, index);
+      String name = Json.decodeString(json, index, nameEnd);
+
+      int valueStart = Json.skipWhitespace(json, json.indexOf(':', nameEnd) + 1);
+      int valueEnd = Json.skipValue(json, valueStart);
+      member.accept(name, valueStart, valueEnd);
+
+      index = Json.skipWhitespace(json, valueEnd);
+      if (index < json.length() && json.charAt(index) == ',')
+        index = Json.skipWhitespace(json, index + 1);
+    }
+  }
+
+  /**
+   * Calls the handler for each element of the array between the given indices.
+   */
+  private static void readElements(String json, int start, Element element) throws Throwable {
+    int index = Json.skipWhitespace(json, start + 1);
+    while (index < json.length() && json.charAt(index) != ']') {
+      int end = Json.skipValue(json, index);
+      element.accept(index, end);
+
+      index = Json.skipWhitespace(json, end);
+      if (index < json.length() && json.charAt(index) == ',')
+        index = Json.skipWhitespace(json, index + 1);
+    }
+  }
+
+  @FunctionalInterface
+  private interface Member {
+
+    void accept(String name, int start, int end) throws Throwable;
+  }
+
+  @FunctionalInterface
+  private interface Element {
+
+    void accept(int start, int end) throws Throwable;
+  }
+
+  @FunctionalInterface
+  private interface Parser<T> {
+
+    T parse(String json, int start, int end);
+  }
+
+  private static class LazyCodec extends JsonCodec<Object> {
+
+    private final Type        type;
+    private JsonCodec<Object> codec; // Resolving twice in a race is harmless.
+
+    private LazyCodec(Type type) {
+      this.type = type;
+    }
+
+    @SuppressWarnings("unchecked")
+    private JsonCodec<Object> codec() {
+      JsonCodec<Object> codec = this.codec;
+      if (codec == null)
+        this.codec = codec = (JsonCodec<Object>) JsonCodec.of(type);
+      return codec;
+    }
+
+    @Override
+    Object nullValue() {
+      return codec().nullValue();
+    }
+
+    @Override
+    Object decode(String json, int start, int end) throws Throwable {
+      return codec().decode(json, start, end);
+    }
+
+    @Override
+    void encode(Object value, JsonWriter out) throws Throwable {
+      codec().encode(value, out);
+    }
+  }
+
+  private static class StringCodec extends JsonCodec<Object> {
+
+    @Override
+    Object decode(String json, int start, int end) {
+      return json.charAt(start) == '"' ? Json.decodeString(json, start, end)
+          : json.substring(start, end);
+    }
+
+    @Override
+    void encode(Object value, JsonWriter out) {
+      out.value(value.toString());
+    }
+  }
+
+  private static class BooleanCodec extends JsonCodec<Boolean> {
+
+    private final boolean primitive;
+
+    private BooleanCodec(boolean primitive) {
+      this.primitive = primitive;
+    }
+
+    @Override
+    Boolean nullValue() {
+      return primitive ? Boolean.FALSE : null;
+    }
+
+    @Override
+    Boolean decode(String json, int start, int end) {
+      return json.startsWith("true", start) || json.startsWith("\"true\"", start);
+    }
+
+    @Override
+    void encode(Boolean value, JsonWriter out) {
+      out.value(value.booleanValue());
+    }
+  }
+
+  private static class NumberCodec<T extends Number> extends JsonCodec<T> {
+
+    private final T         defaultValue;
+    private final Parser<T> parser;
+
+    private NumberCodec(T defaultValue, Parser<T> parser) {
+      this.defaultValue = defaultValue;
+      this.parser = parser;
+    }
+
+    @Override
+    T nullValue() {
+      return defaultValue;
+    }
+
+    @Override
+    T decode(String json, int start, int end) {
+      if (json.charAt(start) == '"')
+        return parser.parse(json, start + 1, end - 1);
+      return parser.parse(json, start, end);
+    }
+
+    @Override
+    void encode(T value, JsonWriter out) {
+      if (value instanceof Double || value instanceof Float)
+        out.value(value.doubleValue());
+      else if (value instanceof Long || value instanceof Integer || value instanceof Short
+          || value instanceof Byte)
+        out.value(value.longValue());
+      else
+        out.rawValue(value.toString());
+    }
+  }
+
+  private static class CharCodec extends JsonCodec<Character> {
+
+    private final boolean primitive;
+
+    private CharCodec(boolean primitive) {
+      this.primitive = primitive;
+    }
+
+    @Override
+    Character nullValue() {
+      return primitive ? '\0' : null;
+    }
+
+    @Override
+    Character decode(String json, int start, int end) {
+      String value = Json.decodeString(json, start, end);
+      if (value.length() != 1)
+        throw new IllegalArgumentException("Not a single character: " + value);
+      return value.charAt(0);
+    }
+
+    @Override
+    void encode(Character value, JsonWriter out) {
+      out.value(value.toString());
+    }
+  }
+
+  private static class EnumCodec extends JsonCodec<Enum<?>> {
+
+    private final Map<String, Enum<?>> constants = new HashMap<>();
+
+    private EnumCodec(Class<?> type) {
+      for (Object constant : type.getEnumConstants())
+        constants.put(((Enum<?>) constant).name(), (Enum<?>) constant);
+    }
+
+    @Override
+    Enum<?> decode(String json, int start, int end) {
+      return constants.get(Json.decodeString(json, start, end));
+    }
+
+    @Override
+    void encode(Enum<?> value, JsonWriter out) {
+      out.value(value.name());
+    }
+  }
+
+  private static class ObjectCodec extends JsonCodec<Object> {
+
+    @Override
+    Object decode(String json, int start, int end) throws Throwable {
+      return switch (json.charAt(start)) {
+        case '"' -> Json.decodeString(json, start, end);
+        case '[' -> JsonCodec.of(List.class).decode(json, start, end);
+        case '{' -> JsonCodec.of(Map.class).decode(json, start, end);
+        case 't', 'f' -> json.charAt(start) == 't';
+        default -> {
+          String number = json.substring(start, end);
+          if (number.indexOf('.') < 0 && number.indexOf('e') < 0 && number.indexOf('E') < 0)
+            yield Long.parseLong(number);
+          yield Double.parseDouble(number);
+        }
+      };
+    }
+
+    @Override
+    void encode(Object value, JsonWriter out) throws Throwable {
+      if (value.getClass() == Object.class)
+        out.beginObject().endObject();
+      else
+        JsonCodec.writeAny(value, out);
+    }
+  }
+
+  private static class ArrayCodec extends JsonCodec<Object> {
+
+    private final JsonCodec<Object> element;
+    private final MethodHandle      constructor;
+    private final MethodHandle      length;
+    private final MethodHandle      getter;
+    private final MethodHandle      setter;
+
+    @SuppressWarnings("unchecked")
+    private ArrayCodec(Class<?> type) {
+      this.element = JsonCodec.lazy(type.getComponentType());
+      this.constructor = MethodHandles.arrayConstructor(type)
+          .asType(MethodType.methodType(Object.class, int.class));
+      this.length = MethodHandles.arrayLength(type)
+          .asType(MethodType.methodType(int.class, Object.class));
+      this.getter = MethodHandles.arrayElementGetter(type)
+          .asType(MethodType.methodType(Object.class, Object.class, int.class));
+      this.setter = MethodHandles.arrayElementSetter(type)
+          .asType(MethodType.methodType(void.class, Object.class, int.class, Object.class));
+    }
+
+    @Override
+    Object decode(String json, int start, int end) throws Throwable {
+      List<Object> values = new ArrayList<>();
+      JsonCodec.readElements(json, start, (s, e) -> values.add(element.read(json, s, e)));
+
+      Object array = (Object) constructor.invokeExact(values.size());
+      for (int i = 0; i < values.size(); i++)
+        setter.invokeExact(array, i, values.get(i));
+      return array;
+    }
+
+    @Override
+    void encode(Object value, JsonWriter out) throws Throwable {
+      out.beginArray();
+      int size = (int) length.invokeExact(value);
+      for (int i = 0; i < size; i++)
+        element.write((Object) getter.invokeExact(value, i), out);
+      out.endArray();
+    }
+  }
+
+  private static class ListCodec extends JsonCodec<Collection<?>> {
+
+    private final Class<?>          type;
+    private final JsonCodec<Object> element;
+    private MethodHandle            constructor; // Resolving twice in a race is harmless.
+
+    @SuppressWarnings("unchecked")
+    private ListCodec(Class<?> type, JsonCodec<?> element) {
+      this.type = type;
+      this.element = (JsonCodec<Object>) element;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    Collection<?> decode(String json, int start, int end) throws Throwable {
+      if (constructor == null)
+        constructor = JsonCodec.constructor(type);
+      Collection<Object> values = (Collection<Object>) (Object) constructor.invokeExact();
+      JsonCodec.readElements(json, start, (s, e) -> values.add(element.read(json, s, e)));
+      return values;
+    }
+
+    @Override
+    void encode(Collection<?> value, JsonWriter out) throws Throwable {
+      out.beginArray();
+      for (Object item : value)
+        element.write(item, out);
+      out.endArray();
+    }
+  }
+
+  private static class MapCodec extends JsonCodec<Map<?, ?>> {
+
+    private final Class<?>          type;
+    private final JsonCodec<Object> element;
+    private MethodHandle            constructor; // Resolving twice in a race is harmless.
+
+    @SuppressWarnings("unchecked")
+    private MapCodec(Class<?> type, JsonCodec<?> element) {
+      this.type = type;
+      this.element = (JsonCodec<Object>) element;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    Map<?, ?> decode(String json, int start, int end) throws Throwable {
+      if (constructor == null)
+        constructor = JsonCodec.constructor(type);
+      Map<String, Object> values = (Map<String, Object>) (Object) constructor.invokeExact();
+      JsonCodec.readMembers(json, start, (n, s, e) -> values.put(n, element.read(json, s, e)));
+      return values;
+    }
+
+    @Override
+    void encode(Map<?, ?> value, JsonWriter out) throws Throwable {
+      out.beginObject();
+      for (var entry : value.entrySet()) {
+        out.name(String.valueOf(entry.getKey()));
+        element.write(entry.getValue(), out);
+      }
+      out.endObject();
+    }
+  }
+
+  /**
+   * Maps a record through its canonical constructor and component accessors.
+   */
+  private static class RecordCodec extends JsonCodec<Object> {
+
+    private final String[]             names;
+    private final JsonCodec<Object>[]  codecs;
+    private final MethodHandle[]       accessors;
+    private final MethodHandle         constructor;
+    private final Map<String, Integer> indices = new HashMap<>();
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private RecordCodec(Class<?> type) {
+      RecordComponent[] components = type.getRecordComponents();
+      this.names = new String[components.length];
+      this.codecs = new JsonCodec[components.length];
+      this.accessors = new MethodHandle[components.length];
+
+      Class<?>[] types = new Class<?>[components.length];
+      try {
+        MethodHandles.Lookup lookup = JsonCodec.lookup(type);
+        for (int i = 0; i < components.length; i++) {
+          names[i] = components[i].getName();
+          types[i] = components[i].getType();
+          codecs[i] = JsonCodec.lazy(components[i].getGenericType());
+          accessors[i] = lookup.unreflect(components[i].getAccessor())
+              .asType(MethodType.methodType(Object.class, Object.class));
+          indices.put(names[i], i);
+        }
+
+        this.constructor = lookup.findConstructor(type, MethodType.methodType(void.class, types))
+            .asSpreader(Object[].class, components.length)
+            .asType(MethodType.methodType(Object.class, Object[].class));
+      } catch (ReflectiveOperationException e) {
+        throw new IllegalArgumentException("Unable to map record: " + type.getName(), e);
+      }
+    }
+
+    @Override
+    Object decode(String json, int start, int end) throws Throwable {
+      Object[] values = new Object[codecs.length];
+      for (int i = 0; i < codecs.length; i++)
+        values[i] = codecs[i].nullValue();
+
+      JsonCodec.readMembers(json, start, (name, s, e) -> {
+        Integer index = indices.get(name);
+        if (index != null)
+          values[index] = codecs[index].read(json, s, e);
+      });
+      return (Object) constructor.invokeExact(values);
+    }
+
+    @Override
+    void encode(Object value, JsonWriter out) throws Throwable {
+      out.beginObject();
+      for (int i = 0; i < codecs.length; i++) {
+        out.name(names[i]);
+        codecs[i].write((Object) accessors[i].invokeExact(value), out);
+      }
+      out.endObject();
+    }
+  }
+
+  /**
+   * Maps a class through its public no-arg constructor and its public fields.
+   */
+  private static class BeanCodec extends JsonCodec<Object> {
+
+    private final String[]             names;
+    private final JsonCodec<Object>[]  codecs;
+    private final MethodHandle[]       getters;
+    private final MethodHandle[]       setters;
+    private final MethodHandle         constructor;
+    private final Map<String, Integer> indices = new HashMap<>();
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private BeanCodec(Class<?> type) {
+      List<Field> fields = new ArrayList<>();
+      for (Field field : type.getFields()) {
+        int modifiers = field.getModifiers();
+        if (!Modifier.isStatic(modifiers) && !Modifier.isTransient(modifiers)
+            && !Modifier.isFinal(modifiers))
+          fields.add(field);
+      }
+
+      this.names = new String[fields.size()];
+      this.codecs = new JsonCodec[fields.size()];
+      this.getters = new MethodHandle[fields.size()];
+      this.setters = new MethodHandle[fields.size()];
+      try {
+        MethodHandles.Lookup lookup = JsonCodec.lookup(type);
+        for (int i = 0; i < fields.size(); i++) {
+          Field field = fields.get(i);
+          names[i] = field.getName();
+          codecs[i] = JsonCodec.lazy(field.getGenericType());
+          getters[i] = lookup.unreflectGetter(field)
+              .asType(MethodType.methodType(Object.class, Object.class));
+          setters[i] = lookup.unreflectSetter(field)
+              .asType(MethodType.methodType(void.class, Object.class, Object.class));
+          indices.put(names[i], i);
+        }
+
+        this.constructor = lookup.findConstructor(type, MethodType.methodType(void.class))
+            .asType(MethodType.methodType(Object.class));
+      } catch (ReflectiveOperationException e) {
+        throw new IllegalArgumentException("Unable to map class: " + type.getName(), e);
+      }
+    }
+
+    @Override
+    Object decode(String json, int start, int end) throws Throwable {
+      Object value = (Object) constructor.invokeExact();
+      JsonCodec.readMembers(json, start, (name, s, e) -> {
+        Integer index = indices.get(name);
+        if (index != null)
+          setters[index].invokeExact(value, codecs[index].read(json, s, e));
+      });
+      return value;
+    }
+
+    @Override
+    void encode(Object value, JsonWriter out) throws Throwable {
+      out.beginObject();
+      for (int i = 0; i < codecs.length; i++) {
+        out.name(names[i]);
+        codecs[i].write((Object) getters[i].invokeExact(value), out);
+      }
+      out.endObject();
+    }
+  }
+}
@@ -0,0 +1,342 @@
+/**
+ * MIT License
+ * 
+ * Copyright (c) 2025 HiveVM
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.hivevm.webview;
+
+import java.lang.foreign.Arena;
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * The {@link JsonWriter} writes JSON as UTF-8 straight into native memory, so a response can be
+ * passed to the webview without an intermediate {@link String}. The buffer grows as needed.
+ *
+ * A writer is confined to the thread that created it.
+ */
+public class JsonWriter implements AutoCloseable {
+
+  private static final int INITIAL_CAPACITY = 4096;
+
+  private Arena            arena;
+  private MemorySegment    buffer;
+  private long             position;
+
+  private boolean          separate;
+  private boolean          named;
+
+  /**
+   * Creates a writer with the default initial capacity.
+   */
+  public JsonWriter() {
+    this(INITIAL_CAPACITY);
+  }
+
+  /**
+   * Creates a writer with the given initial capacity in bytes.
+   */
+  public JsonWriter(int capacity) {
+    this.arena = Arena.ofConfined();
+    this.buffer = arena.allocate(Math.max(capacity, 16));
+  }
+
+  /**
+   * Returns <code>true</code> if nothing has been written yet.
+   */
+  public boolean isEmpty() {
+    return position == 0;
+  }
+
+  /**
+   * Gets the number of bytes written.
+   */
+  public long size() {
+    return position;
+  }
+
+  /**
+   * Discards everything written so far, keeping the buffer.
+   */
+  public JsonWriter reset() {
+    position = 0;
+    separate = false;
+    named = false;
+    return this;
+  }
+
+  public JsonWriter beginArray() {
+    return open('[');
+  }
+
+  public JsonWriter endArray() {
+    return close(']');
+  }
+
+  public JsonWriter beginObject() {
+    return open('{');
+  }
+
+  public JsonWriter endObject() {
+    return close('}');
+  }
+
+  /**
+   * Writes the name of the next member of an object.
+   */
+  public JsonWriter name(@NotNull String name) {
+    if (separate)
+      write(',');
+    writeString(name);
+    write(':');
+    separate = false;
+    named = true;
+    return this;
+  }
+
+  public JsonWriter value(@Nullable String value) {
+    if (value == null)
+      return nullValue();
+
+    prefix();
+    writeString(value);
+    return this;
+  }
+
+  public JsonWriter value(long value) {
+    prefix();
+    if (value == Long.MIN_VALUE) {
+      writeAscii("-9223372036854775808");
+      return this;
+    }
+
+    if (value < 0) {
+      write('-');
+      value = -value;
+    }
+
+    int digits = 1;
+    for (long limit = 10; digits < 19 && value >= limit; limit *= 10)
+      digits++;
+
+    ensure(digits);
+    for (int i = digits - 1; i >= 0; i--) {
+      buffer.set(ValueLayout.JAVA_BYTE, position + i, (byte) ('0' + value % 10));
+      value /= 10;
+    }
+    position += digits;
+    return this;
+  }
+
+  /**
+   * Writes a number. Values that cannot be represented in JSON are written as <code>null</code>.
+   */
+  public JsonWriter value(double value) {
+    if (Double.isNaN(value) || Double.isInfinite(value))
+      return nullValue();
+
+    prefix();
+    writeAscii(Double.toString(value));
+    return this;
+  }
+
+  public JsonWriter value(boolean value) {
+    prefix();
+    writeAscii(value ? "true" : "false");
+    return this;
+  }
+
+  public JsonWriter nullValue() {
+    prefix();
+    writeAscii("null");
+    return this;
+  }
+
+  /**
+   * Writes any value supported by typed bindings, e.g. a record, a list or a map.
+   */
+  public JsonWriter value(@Nullable Object value) throws Throwable {
+    JsonCodec.writeAny(value, this);
+    return this;
+  }
+
+  /**
+   * Writes a value that is already encoded as JSON, without any validation.
+   */
+  public JsonWriter rawValue(@NotNull String json) {
+    prefix();
+    writeString(json, false);
+    return this;
+  }
+
+  /**
+   * Starts a script calling the JavaScript function, whose arguments are written as values. JSON
+   * values are valid JavaScript literals.
+   */
+  JsonWriter beginCall(String function) {
+    writeString(function, false);
+    write('(');
+    separate = false;
+    return this;
+  }
+
+  JsonWriter endCall() {
+    write(')');
+    write(';');
+    separate = true;
+    return this;
+  }
+
+  /**
+   * Gets the written JSON as NUL terminated string in native memory. The segment is only valid
+   * until the writer is modified or closed.
+   */
+  MemorySegment toSegment() {
+    ensure(1);
+    buffer.set(ValueLayout.JAVA_BYTE, position, (byte) 0);
+    return buffer.asSlice(0, position + 1);
+  }
+
+  /**
+   * Releases the native memory of the writer.
+   */
+  @Override
+  public void close() {
+    if (arena != null)
+      arena.close();
+    arena = null;
+    buffer = null;
+  }
+
+  private JsonWriter open(char bracket) {
+    prefix();
+    write(bracket);
+    separate = false;
+    return this;
+  }
+
+  private JsonWriter close(char bracket) {
+    write(bracket);
+    separate = true;
+    return this;
+  }
+
+  /**
+   * Writes the separator in front of a value, unless the value follows a member name.
+   */
+  private void prefix() {
+    if (named)
+      named = false;
+    else if (separate)
+      write(',');
+    separate = true;
+  }
+
+  private void writeString(String value) {
+    write('"');
+    writeString(value, true);
+    write('"');
+  }
+
+  /**
+   * Encodes the characters as UTF-8, escaping the ones not allowed in a JSON string if requested.
+   */
+  private void writeString(String value, boolean escape) {
+    ensure(value.length());
+    for (int i = 0; i < value.length(); i++) {
+      char ch = value.charAt(i);
+      if (ch < 0x80) {
+        if (escape && WebViewUtil.escapeOf(ch) != 0)
+          writeEscape(ch);
+        else
+          write(ch);
+      } else if (ch < 0x800) {
+        ensure(2);
+        put(0xC0 | (ch >> 6));
+        put(0x80 | (ch & 0x3F));
+      } else if (Character.isHighSurrogate(ch) && i + 1 < value.length()
+          && Character.isLowSurrogate(value.charAt(i + 1))) {
+        int cp = Character.toCodePoint(ch, value.charAt(++i));
+        ensure(4);
+        put(0xF0 | (cp >> 18));
+        put(0x80 | ((cp >> 12) & 0x3F));
+        put(0x80 | ((cp >> 6) & 0x3F));
+        put(0x80 | (cp & 0x3F));
+      } else if (Character.isSurrogate(ch)) {
+        // A lone surrogate has no UTF-8 encoding.
+        writeEscape(ch);
+      } else {
+        ensure(3);
+        put(0xE0 | (ch >> 12));
+        put(0x80 | ((ch >> 6) & 0x3F));
+        put(0x80 | (ch & 0x3F));
+      }
+    }
+  }
+
+  private void writeEscape(char ch) {
+    char escape = ch < 128 ? WebViewUtil.escapeOf(ch) : 'u';
+    if (escape != 'u') {
+      ensure(2);
+      put('\\');
+      put(escape);
+      return;
+    }
+
+    ensure(6);
+    put('\\');
+    put('u');
+    put(WebViewUtil.HEX[ch >> 12]);
+    put(WebViewUtil.HEX[(ch >> 8) & 0xF]);
+    put(WebViewUtil.HEX[(ch >> 4) & 0xF]);
+    put(WebViewUtil.HEX[ch & 0xF]);
+  }
+
+  private void writeAscii(String value) {
+    ensure(value.length());
+    for (int i = 0; i < value.length(); i++)
+      put(value.charAt(i));
+  }
+
+  private void write(char ch) {
+    ensure(1);
+    put(ch);
+  }
+
+  private void put(int b) {
+    buffer.set(ValueLayout.JAVA_BYTE, position++, (byte) b);
+  }
+
+  /**
+   * Makes room for the given number of bytes, moving the content into a larger buffer if needed.
+   */
+  private void ensure(long bytes) {
+    if (position + bytes <= buffer.byteSize())
+      return;
+
+    Arena grown = Arena.ofConfined();
+    MemorySegment segment = grown.allocate(Math.max(buffer.byteSize() * 2, position + bytes));
+    MemorySegment.copy(buffer, 0, segment, 0, position);
+    arena.close();
+
+    arena = grown;
+    buffer = segment;
+  }
+}
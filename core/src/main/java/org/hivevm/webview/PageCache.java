@@ -0,0 +1,141 @@
+/**
+ * MIT License
+ * 
+ * Copyright (c) 2025 HiveVM
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.hivevm.webview;
+
+import java.util.Arrays;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * The {@link PageCache} keeps the results of selected bindings in the page, so hot reads never
+ * cross the native bridge. Results are cached per binding and arguments until Java invalidates
+ * them, by key or by tag. Failed calls are not cached.
+ */
+class PageCache {
+
+  /** The runtime of the cache, which is installed once per page. */
+  static final String       SCRIPT  = """
+      const webview = window.webview = window.webview || {};
+      if (!webview.cache) {
+        const entries = new Map();
+        const tags = new Map();
+        const drop = prefix => {
+          for (const key of entries.keys())
+            if (key.startsWith(prefix))
+              entries.delete(key);
+        };
+        webview.cache = {
+          wrap(name, tagList) {
+            const call = window[name];
+            if (typeof call !== 'function') {
+              console.warn('[Webview]', 'Cannot cache a function that is not bound:', name);
+              return;
+            }
+            if (call.cached)
+              return;
+            for (const tag of tagList) {
+              if (!tags.has(tag))
+                tags.set(tag, new Set());
+              tags.get(tag).add(name);
+            }
+            const cached = (...args) => {
+              const key = name + ':' + JSON.stringify(args);
+              let result = entries.get(key);
+              if (!result) {
+                if (entries.size >= 1024)
+                  entries.delete(entries.keys().next().value);
+                result = call(...args);
+                entries.set(key, result);
+                result.catch(() => {
+                  if (entries.get(key) === result)
+                    entries.delete(key);
+                });
+              }
+              return result;
+            };
+            cached.cached = true;
+            window[name] = cached;
+          },
+          invalidate(name, args) {
+            if (args === undefined)
+              drop(name + ':');
+            else
+              entries.delete(name + ':' + JSON.stringify(JSON.parse(args)));
+          },
+          invalidateTag(tag) {
+            for (const name of tags.get(tag) || [])
+              this.invalidate(name);
+          }
+        };
+      }
+      """;
+
+  private final Set<String> names   = ConcurrentHashMap.newKeySet();
+  private final Set<String> tags    = ConcurrentHashMap.newKeySet();
+
+  /**
+   * Registers the binding, returning <code>true</code> for the first binding.
+   */
+  boolean add(String name, String[] tags) {
+    boolean first = names.isEmpty();
+    names.add(name);
+    this.tags.addAll(Arrays.asList(tags));
+    return first;
+  }
+
+  /**
+   * Gets the script wrapping the bound function with the cache.
+   */
+  String createScript(String name, String[] tags) {
+    StringBuilder script = new StringBuilder("window.webview.cache.wrap(").append(quote(name));
+    script.append(", [");
+    for (int i = 0; i < tags.length; i++)
+      script.append(i == 0 ? "" : ", ").append(quote(tags[i]));
+    return script.append("]);").toString();
+  }
+
+  /**
+   * Gets the script invalidating the results of the binding, or <code>null</code> if the binding
+   * is not cached in the page.
+   */
+  String invalidate(String name, String jsonArgs) {
+    if (!names.contains(name))
+      return null;
+
+    if (jsonArgs == null)
+      return "window.webview.cache.invalidate(" + quote(name) + ");";
+    return "window.webview.cache.invalidate(" + quote(name) + ", " + quote(jsonArgs) + ");";
+  }
+
+  /**
+   * Gets the script invalidating the results of the bindings with the tag, or <code>null</code>
+   * if no binding has the tag.
+   */
+  String invalidateTag(String tag) {
+    if (!tags.contains(tag))
+      return null;
+    return "window.webview.cache.invalidateTag(" + quote(tag) + ");";
+  }
+
+  private static String quote(String value) {
+    return '"' + WebViewUtil.jsonEscape(value) + '"';
+  }
+}
@@ -0,0 +1,62 @@
+/**
+ * MIT License
+ * 
+ * Copyright (c) 2025 HiveVM
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.hivevm.webview;
+
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * The {@link PreparedScript} is a function installed once in the page by
+ * {@link WebView#prepare(String)}. Invoking it only sends its id and the arguments, so the page
+ * doesn't parse a new script for every call.
+ *
+ * <pre>
+ * <code>
+ *   PreparedScript status =
+ *       wv.prepare("(id, text) => document.getElementById(id).textContent = text");
+ *   status.invoke("progress", "42%");
+ * </code>
+ * </pre>
+ */
+public class PreparedScript {
+
+  private final WebView webview;
+  private final int     id;
+  private final String  function;
+
+  PreparedScript(WebView webview, int id) {
+    this.webview = webview;
+    this.id = id;
+    this.function = "window.__webview_prepared[" + id + "]";
+  }
+
+  public int getId() {
+    return id;
+  }
+
+  /**
+   * Calls the function with the arguments, which are serialized like the results of typed
+   * bindings: primitives, strings, arrays, lists, maps, records and beans. The arguments are
+   * serialized before this returns.
+   */
+  public void invoke(@Nullable Object... args) {
+    this.webview.evalCall(function, args);
+  }
+}
@@ -0,0 +1,120 @@
+/**
+ * MIT License
+ * 
+ * Copyright (c) 2025 HiveVM
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.hivevm.webview;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * The {@link ScriptSources} keep the sources of evaluated scripts on the Java side, for the lean
+ * eval mode. Scripts are tagged with a numeric id instead of an escaped copy of their source, and
+ * errors are reported back through the {@link #REPORT} binding, which maps the id to the source.
+ *
+ * The sources of init scripts are kept for good, those of evaluated scripts only for the most
+ * recent ones.
+ */
+class ScriptSources {
+
+  static final String                          REPORT  = "__webview_error";
+
+  private static final Logger                  LOGGER  = Logger.getLogger(WebView.class.getName());
+
+  private static final int                     RECENT  = 256;
+
+  private final AtomicInteger                  next    = new AtomicInteger();
+  private final AtomicReferenceArray<Source>   recent  = new AtomicReferenceArray<>(RECENT);
+  private final Map<Integer, String>           init    = new ConcurrentHashMap<>();
+  private final BindLimiter                    log     = new BindLimiter(10, 10);
+
+  ScriptSources() {
+    this(0);
+  }
+
+  /**
+   * Starts the ids after the given one. Ids wrap around once they overflow.
+   */
+  ScriptSources(int last) {
+    this.next.set(last);
+  }
+
+  /**
+   * Wraps an evaluated script, so errors are reported with its id.
+   */
+  String wrap(String script) {
+    int id = next.incrementAndGet();
+    recent.set(Math.floorMod(id, RECENT), new Source(id, script));
+    return "try {\n" + script + "\n}" + catchBlock(id);
+  }
+
+  /**
+   * Wraps an init script, which is only run in the top window unless nested access is allowed.
+   */
+  String wrapInit(String script, boolean allowNestedAccess) {
+    int id = next.incrementAndGet();
+    init.put(id, script);
+    return "(() => {\ntry {\nif (window.top == window.self || " + allowNestedAccess + ") {\n"
+        + script + "\n}\n}" + catchBlock(id) + "})();\n";
+  }
+
+  /**
+   * Gets the catch block reporting an error of the script with the id.
+   */
+  static String catchBlock(int id) {
+    return " catch (e) {\n  (window." + REPORT + " || console.error)(" + id
+        + ", String(e && e.stack || e));\n}\n";
+  }
+
+  /**
+   * Tags a batched script with an id, keeping its source.
+   */
+  int add(String script) {
+    int id = next.incrementAndGet();
+    recent.set(Math.floorMod(id, RECENT), new Source(id, script));
+    return id;
+  }
+
+  /**
+   * Logs the error reported by the page, as <code>[id, error]</code>, with the source of the
+   * script.
+   */
+  String report(String jsonArgs) {
+    if (!log.tryAcquire())
+      return null;
+
+    BindArgs args = BindArgs.of(jsonArgs);
+    int id = args.getInt(0);
+    String source = init.get(id);
+    if (source == null) {
+      Source script = recent.get(Math.floorMod(id, RECENT));
+      source = script != null && script.id == id ? script.script : "(no longer available)";
+    }
+
+    LOGGER.log(Level.WARNING, "An error occurred whilst evaluating script #{0}: {1}\n{2}",
+        new Object[] { id, args.getString(1), source });
+    return null;
+  }
+
+  private record Source(int id, String script) {}
+}
@@ -0,0 +1,122 @@
+/**
+ * MIT License
+ * 
+ * Copyright (c) 2025 HiveVM
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.hivevm.webview;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * The {@link ServiceRouter} exposes the methods of a service object through a single binding. The
+ * JavaScript side passes the method name as first argument, followed by the arguments of the
+ * method.
+ *
+ * Exposed are the public methods that accept either no parameter or the JSON arguments as
+ * {@link String} and return a {@link String}, like {@link WebViewBindCallback}.
+ */
+class ServiceRouter implements WebViewBindCallback {
+
+  private static final MethodType TYPE = MethodType.methodType(String.class, String.class);
+
+  private final Map<String, MethodHandle> methods;
+
+  private ServiceRouter(Map<String, MethodHandle> methods) {
+    this.methods = methods;
+  }
+
+  /**
+   * Creates the JavaScript proxy that forwards all method calls of the namespace to the binding.
+   */
+  public static String createScript(String namespace, String binding) {
+    return String.format("""
+        const path = "%s".split('.');
+        const name = path.pop();
+        const parent = path.reduce((o, k) => o[k] = o[k] || {}, window);
+        parent[name] = new Proxy({}, {
+          get: (target, method) => (typeof method !== 'string' || method === 'then') ? undefined
+            : (...args) => window["%s"](method, ...args)
+        });
+        """, WebViewUtil.jsonEscape(namespace), WebViewUtil.jsonEscape(binding));
+  }
+
+  /**
+   * Creates the router for the service, resolving the method handles once.
+   */
+  public static ServiceRouter of(Object service) {
+    Map<String, MethodHandle> methods = new HashMap<>();
+    for (Method method : service.getClass().getMethods()) {
+      if (method.getDeclaringClass() == Object.class || Modifier.isStatic(method.getModifiers())
+          || method.getReturnType() != String.class || method.getParameterCount() > 1)
+        continue;
+
+      MethodHandle handle;
+      if (method.getParameterCount() == 0)
+        handle = MethodHandles.dropArguments(ServiceRouter.unreflect(service, method), 0,
+            String.class);
+      else if (method.getParameterTypes()[0] == String.class)
+        handle = ServiceRouter.unreflect(service, method);
+      else
+        continue;
+
+      // Prefer the variant accepting the arguments on overloaded methods.
+      if (method.getParameterCount() == 1 || !methods.containsKey(method.getName()))
+        methods.put(method.getName(), handle.asType(TYPE));
+    }
+    return new ServiceRouter(methods);
+  }
+
+  /**
+   * Gets a handle for the method bound to the service. Methods of non-public classes are looked up
+   * on the public interfaces they implement.
+   */
+  private static MethodHandle unreflect(Object service, Method method) {
+    try {
+      return MethodHandles.publicLookup().unreflect(method).bindTo(service);
+    } catch (IllegalAccessException e) {
+      for (Class<?> type : service.getClass().getInterfaces()) {
+        try {
+          Method declared = type.getMethod(method.getName(), method.getParameterTypes());
+          return MethodHandles.publicLookup().unreflect(declared).bindTo(service);
+        } catch (NoSuchMethodException | IllegalAccessException ex) {
+          // Try the next interface.
+        }
+      }
+      throw new IllegalArgumentException("Method is not accessible: " + method, e);
+    }
+  }
+
+  @Override
+  public String apply(String jsonArgs) throws Throwable {
+    BindArgs args = BindArgs.of(jsonArgs);
+    String name = args.getString(0);
+    MethodHandle method = name == null ? null : methods.get(name);
+    if (method == null)
+      throw new NoSuchMethodException(name);
+
+    // Strip the method name from the arguments.
+    String rest = args.has(1) ? "[" + jsonArgs.substring(args.start(1)) : "[]";
+    return (String) method.invokeExact(rest);
+  }
+}
@@ -20,6 +20,7 @@
  */
 package org.hivevm.webview;
 
+import static org.hivevm.webview.ffi.webview_h.WEBVIEW_ERROR_NOT_FOUND;
 import static org.hivevm.webview.ffi.webview_h.WEBVIEW_ERROR_OK;
 import static org.hivevm.webview.ffi.webview_h.WEBVIEW_ERROR_UNSPECIFIED;
 import static org.hivevm.webview.ffi.webview_h.WEBVIEW_HINT_FIXED;
@@ -29,6 +30,7 @@ import static org.hivevm.webview.ffi.webview_h.WEBVIEW_HINT_NONE;
 import static org.hivevm.webview.ffi.webview_h.webview_bind;
 import static org.hivevm.webview.ffi.webview_h.webview_create;
 import static org.hivevm.webview.ffi.webview_h.webview_destroy;
+import static org.hivevm.webview.ffi.webview_h.webview_dispatch;
 import static org.hivevm.webview.ffi.webview_h.webview_eval;
 import static org.hivevm.webview.ffi.webview_h.webview_init;
 import static org.hivevm.webview.ffi.webview_h.webview_navigate;
@@ -41,22 +43,78 @@ import static org.hivevm.webview.ffi.webview_h.webview_terminate;
 import static org.hivevm.webview.ffi.webview_h.webview_unbind;
 import java.io.Closeable;
 import java.lang.foreign.Arena;
-import java.lang.foreign.FunctionDescriptor;
-import java.lang.foreign.Linker;
-import java.lang.foreign.MemoryLayout;
 import java.lang.foreign.MemorySegment;
-import java.lang.foreign.ValueLayout;
-import java.lang.invoke.MethodHandles;
-import java.lang.invoke.MethodType;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.regex.Pattern;
+import org.hivevm.webview.ffi.webview_bind$fn;
+import org.hivevm.webview.ffi.webview_dispatch$fn;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
 public class WebView implements Closeable, Runnable {
 
-  private final static Linker LINKER = Linker.nativeLinker();
+  private final static int      MAX_BATCH = 1024;
 
-  public Arena                arena;
-  public MemorySegment        handle;
+  /** A path of identifiers, like <code>app.update</code>. */
+  private final static Pattern  FUNCTION  =
+      Pattern.compile("[\\p{L}_$][\\p{L}\\p{N}_$]*(\\.[\\p{L}_$][\\p{L}\\p{N}_$]*)*");
+
+  /**
+   * Owns the upcall stubs. Strings are only allocated for the duration of a native call, since the
+   * native library copies them.
+   */
+  public Arena                  arena;
+  public MemorySegment          handle;
+
+  /**
+   * Guards the native webview against calls from other threads while it is destroyed. Native
+   * calls from any thread hold the read lock and check that the webview still exists.
+   */
+  private final ReadWriteLock   lifecycle = new ReentrantReadWriteLock();
+  private boolean               looping;
+  private boolean               destroyed;
+
+  private final Queue<Runnable> tasks     = new ConcurrentLinkedQueue<>();
+  private final AtomicBoolean   scheduled = new AtomicBoolean();
+  private MemorySegment         dispatcher;
+
+  private final EvalBatch       evals     = new EvalBatch();
+  private volatile Duration     evalWindow;
+  private final AtomicInteger   prepared  = new AtomicInteger();
+
+  private final ScriptSources   sources   = new ScriptSources();
+  private final AtomicBoolean   reporting = new AtomicBoolean();
+  private volatile boolean      leanEval;
+
+  private final EvalResults     results   = new EvalResults();
+
+  final BindingTable            bindings  = new BindingTable();
+  MemorySegment                 binder;
+
+  private final CallRegistry    calls       = new CallRegistry();
+  private final AtomicBoolean   cancellable = new AtomicBoolean();
+  private final AtomicBoolean   relaying    = new AtomicBoolean();
+
+  private final Map<String, BindCoalescer> coalescers = new ConcurrentHashMap<>();
+  private final Map<String, BindLimiter>   limiters   = new ConcurrentHashMap<>();
+  private final BindErrors                 errors     = new BindErrors();
+  private final PageCache                  pageCache  = new PageCache();
+
+  private final BindCompression            compression = new BindCompression();
+  private final AtomicBoolean              compressing = new AtomicBoolean();
 
   /**
    * Creates a new Webview. The default size will be set, and if the size is set again before
@@ -97,15 +155,20 @@ public class WebView implements Closeable, Runnable {
       new RuntimeException(e);
     }
 
-    arena = Arena.ofConfined();
+    arena = Arena.ofShared();
     handle = webview_create(1, MemorySegment.NULL);
+    dispatcher = webview_dispatch$fn.allocate((w, arg) -> drain(), arena);
+    binder = webview_bind$fn.allocate(this::invoke, arena);
+    this.bind(EvalResults.RESULT, results::complete);
 
     loadURL(null);
     setSize(width, height);
   }
 
   public void setHTML(@Nullable String html) {
-    webview_set_html(handle, arena.allocateFrom(html));
+    try (Arena scope = Arena.ofConfined()) {
+      webview_set_html(handle, scope.allocateFrom(html));
+    }
   }
 
   public void loadURL(@Nullable String url) {
@@ -113,11 +176,15 @@ public class WebView implements Closeable, Runnable {
       url = "about:blank";
     }
 
-    webview_navigate(handle, arena.allocateFrom(url));
+    try (Arena scope = Arena.ofConfined()) {
+      webview_navigate(handle, scope.allocateFrom(url));
+    }
   }
 
   public void setTitle(@NotNull String title) {
-    webview_set_title(handle, title == null ? MemorySegment.NULL : arena.allocateFrom(title));
+    try (Arena scope = Arena.ofConfined()) {
+      webview_set_title(handle, title == null ? MemorySegment.NULL : scope.allocateFrom(title));
+    }
   }
 
   public void setMinSize(int width, int height) {
@@ -148,6 +215,13 @@ public class WebView implements Closeable, Runnable {
    * allowNestedAccess defines whether or not to inject the script into nested iframes.
    */
   public void setInitScript(@NotNull String script, boolean allowNestedAccess) {
+    if (leanEval) {
+      try (Arena scope = Arena.ofConfined()) {
+        webview_init(handle, scope.allocateFrom(sources.wrapInit(script, allowNestedAccess)));
+      }
+      return;
+    }
+
     script = String.format("""
         (() => {
           try {
@@ -157,15 +231,62 @@ public class WebView implements Closeable, Runnable {
           } catch (e) {
             console.error('[Webview]', 'An error occurred whilst evaluating init script:', %s, e);
           }
+        })();
         """, allowNestedAccess, script, '"' + WebViewUtil.jsonEscape(script) + '"');
 
-    webview_init(handle, arena.allocateFrom(script));
+    try (Arena scope = Arena.ofConfined()) {
+      webview_init(handle, scope.allocateFrom(script));
+    }
+  }
+
+  /**
+   * Enables the lean eval mode, in which scripts are tagged with a numeric id instead of embedding
+   * an escaped copy of their source for the error message. The sources are kept in Java, and
+   * errors are logged with the source once the page reports them through a reserved binding. This
+   * applies to the scripts evaluated and the init scripts set from now on.
+   */
+  public void setLeanEval(boolean lean) {
+    if (lean && reporting.compareAndSet(false, true))
+      this.bind(ScriptSources.REPORT, sources::report);
+    this.leanEval = lean;
+  }
+
+  /**
+   * Batches the scripts passed to {@link #eval(String)}, so bursts of small updates are evaluated
+   * with a single native call. Scripts are collected until the next dispatch tick for a zero
+   * window, or for the given window. Runtime errors stay isolated per script, but a script that
+   * doesn't parse fails its whole batch. Batching is disabled with <code>null</code>.
+   */
+  public void setEvalBatching(@Nullable Duration window) {
+    this.evalWindow = window;
   }
 
   /**
-   * Executes the given script NOW.
+   * Executes the given script NOW, or with the next batch if eval batching is enabled.
    */
   public void eval(@NotNull String script) {
+    Duration window = this.evalWindow;
+    if (window != null) {
+      if (!evals.add(script))
+        return;
+
+      if (window.isZero())
+        this.dispatch(this::evalBatch);
+      else
+        CompletableFuture.delayedExecutor(window.toNanos(), TimeUnit.NANOSECONDS)
+            .execute(() -> this.dispatch(this::evalBatch));
+      return;
+    }
+
+    if (leanEval) {
+      this.dispatch(() -> {
+        try (Arena scope = Arena.ofConfined()) {
+          webview_eval(handle, scope.allocateFrom(sources.wrap(script)));
+        }
+      });
+      return;
+    }
+
     this.dispatch(() -> {
       var eval = String.format("""
           try {
@@ -175,7 +296,9 @@ public class WebView implements Closeable, Runnable {
           }
           """, script, '"' + WebViewUtil.jsonEscape(script) + '"');
 
-      webview_eval(handle, arena.allocateFrom(eval));
+      try (Arena scope = Arena.ofConfined()) {
+        webview_eval(handle, scope.allocateFrom(eval));
+      }
     });
   }
 
@@ -187,75 +310,572 @@ public class WebView implements Closeable, Runnable {
    * The callback handler, accepts a JsonArray (which are all arguments passed to the function())
    * and returns a value which is of type JsonElement (can be null). Exceptions are automatically
    * passed back to JavaScript.
+   *
+   * Binding a name again replaces its handler atomically, which can be done from any thread. The
+   * new handler is used right away, also by pages already loaded, without any native call.
    */
   public void bind(@NotNull String name, @NotNull WebViewBindCallback handler) {
-    try {
-    } catch (Exception e) {
-      e.printStackTrace();
-    }
-
-    BindCallback callback = (seq, req, arg) -> {
+    webview_bind$fn.Function callback = (seq, req, arg) -> {
       int result = WEBVIEW_ERROR_OK();
       String response;
       try {
-        long seqL = seq.get(ValueLayout.JAVA_LONG, 0);
-        long argL = arg.get(ValueLayout.JAVA_LONG, 0);
-        String request = WebViewUtil.forceSafeChars(req.getString(0));
+        String request = WebViewUtil.readString(req);
         response = handler.apply(request);
         if (response == null)
           response = "null";
 
         response = WebViewUtil.forceSafeChars(response);
       } catch (Throwable e) {
-        e.printStackTrace();
-
         result = WEBVIEW_ERROR_UNSPECIFIED();
-        response = '"' + WebViewUtil.jsonEscape(WebViewUtil.getExceptionStack(e)) + '"';
+        response = errors.toJson(e);
+      }
+
+      try (Arena scope = Arena.ofConfined()) {
+        webview_return(handle, seq, result, scope.allocateFrom(response));
       }
+    };
+
+    this.bind(name, callback);
+  }
+
+  /**
+   * Binds a function like {@link #bind(String, WebViewBindCallback)}, but lets the handler write
+   * its response with a {@link JsonWriter}. The response is encoded straight into native memory and
+   * passed to the webview without intermediate copies, which pays off for large responses.
+   */
+  public void bind(@NotNull String name, @NotNull WebViewWriterBindCallback handler) {
+    webview_bind$fn.Function callback = (seq, req, arg) -> {
+      try (JsonWriter response = new JsonWriter()) {
+        int result = WEBVIEW_ERROR_OK();
+        try {
+          handler.apply(WebViewUtil.readString(req), response);
+          if (response.isEmpty())
+            response.nullValue();
+        } catch (Throwable e) {
+          result = WEBVIEW_ERROR_UNSPECIFIED();
+          response.reset().rawValue(errors.toJson(e));
+        }
+
+        webview_return(handle, seq, result, response.toSegment());
+      }
+    };
+
+    this.bind(name, callback);
+  }
+
+  /**
+   * Binds a function with a typed signature, e.g.
+   * <code>bind("save", Order.class, order -> new Receipt(...))</code>. The first argument of the
+   * call is decoded to the given type and the result is encoded as JSON. Records, classes with
+   * public fields, enums, arrays, collections, maps and simple values are supported; their codecs
+   * are created once per type, so calls involve no reflection. On the module path, the package of
+   * the types must be opened to <code>org.hivevm.webview</code>.
+   */
+  public <A, R> void bind(@NotNull String name, @NotNull Class<A> type,
+      @NotNull WebViewTypedBindCallback<A, R> handler) {
+    JsonCodec<A> codec = JsonCodec.of(type);
+    WebViewWriterBindCallback callback = (jsonArgs, response) -> {
+      BindArgs args = BindArgs.of(jsonArgs);
+      A argument =
+          args.has(0) ? codec.read(jsonArgs, args.start(0), args.end(0)) : codec.nullValue();
+      response.value(handler.apply(argument));
+    };
 
-      webview_return(handle, seq, result, arena.allocateFrom(response));
+    this.bind(name, callback);
+  }
+
+  /**
+   * Binds a function like {@link #bind(String, WebViewBindCallback)}, but runs the handler as
+   * defined by the options: inline on the UI thread, on virtual threads, on the compute pool or on
+   * an executor, with a priority lane and a maximum number of calls in flight. Calls that are not
+   * run inline can be cancelled, which interrupts the handler.
+   *
+   * Idempotent bindings may also share identical calls in flight and cache their results. Calls
+   * beyond the rate limit or the maximum queue depth are shed, see {@link #getShedCount(String)}.
+   * Large responses can be compressed, and are inflated in the page before the promise resolves.
+   */
+  public void bind(@NotNull String name, @NotNull WebViewBindCallback handler,
+      @NotNull BindOptions options) {
+    BindCoalescer coalescer = null;
+    if (options.isSingleFlight() || options.getCacheSize() > 0)
+      coalescer = new BindCoalescer(options.isSingleFlight(), options.getCacheSize(),
+          options.getCacheTtl().toNanos());
+
+    if (options.isCompressed())
+      handler = compression.wrap(handler);
+
+    BindLimiter limiter = new BindLimiter(options.getRateLimit(), options.getBurst());
+    if (options.getExecution() == BindOptions.Execution.INLINE) {
+      WebViewBindCallback callback = limiter.wrap(handler);
+      this.bind(name, coalescer == null ? callback : coalescer.wrap(callback));
+    } else {
+      WebViewAsyncBindCallback callback = new BindScheduler(handler, options, limiter);
+      this.bindAsync(name, coalescer == null ? callback : coalescer.wrapAsync(callback));
+    }
+
+    this.limiters.put(name, limiter);
+    if (coalescer != null)
+      this.coalescers.put(name, coalescer);
+    if (options.isCompressed())
+      this.inflate(name);
+  }
+
+  /**
+   * Inflates the compressed responses of the bound function in the page.
+   */
+  private void inflate(String name) {
+    if (compressing.compareAndSet(false, true)) {
+      this.bind(BindCompression.REPORT, jsonArgs -> {
+        BindArgs args = BindArgs.of(jsonArgs);
+        this.compression.decoded(args.getLong(0), args.getDouble(1));
+        return null;
+      });
+      this.setInitScript(BindCompression.SCRIPT);
+      this.eval(BindCompression.SCRIPT);
+    }
+
+    String script = "window.webview.inflate(\"" + WebViewUtil.jsonEscape(name) + "\");";
+    this.setInitScript(script);
+    this.eval(script);
+  }
+
+  /**
+   * Gets the number of calls of a binding that were shed, because of its rate limit or its maximum
+   * queue depth.
+   */
+  public long getShedCount(@NotNull String name) {
+    BindLimiter limiter = limiters.get(name);
+    return limiter == null ? 0 : limiter.getShedCount();
+  }
+
+  /**
+   * Sets the number of stack frames included in the errors of failed calls. By default the page
+   * only receives the error code, type and message, which keeps failures as cheap as results.
+   */
+  public void setErrorStackDepth(int stackDepth) {
+    this.errors.setStackDepth(stackDepth);
+  }
+
+  /**
+   * Caches the results of a bound function in the page, by its arguments, so repeated calls don't
+   * leave the page. The results are kept until they are invalidated by name, arguments or one of
+   * the tags. The function must be bound before.
+   *
+   * <pre>
+   * <code>
+   *   wv.bind("hasPermission", handler);
+   *   wv.cacheInPage("hasPermission", "permissions");
+   *   ...
+   *   wv.invalidateTag("permissions");
+   * </code>
+   * </pre>
+   */
+  public void cacheInPage(@NotNull String name, @NotNull String... tags) {
+    if (pageCache.add(name, tags)) {
+      this.setInitScript(PageCache.SCRIPT);
+      this.eval(PageCache.SCRIPT);
+    }
+
+    String script = pageCache.createScript(name, tags);
+    this.setInitScript(script);
+    this.eval(script);
+  }
+
+  /**
+   * Drops all cached results of a binding, in Java and in the page, so the next calls reach the
+   * handler again.
+   */
+  public void invalidate(@NotNull String name) {
+    BindCoalescer coalescer = coalescers.get(name);
+    if (coalescer != null)
+      coalescer.invalidateAll();
+
+    String script = pageCache.invalidate(name, null);
+    if (script != null)
+      this.eval(script);
+  }
+
+  /**
+   * Drops the cached result of a binding for the given JSON arguments, in Java and in the page.
+   */
+  public void invalidate(@NotNull String name, @NotNull String jsonArgs) {
+    BindCoalescer coalescer = coalescers.get(name);
+    if (coalescer != null)
+      coalescer.invalidate(jsonArgs);
+
+    String script = pageCache.invalidate(name, jsonArgs);
+    if (script != null)
+      this.eval(script);
+  }
+
+  /**
+   * Drops the results cached in the page of all bindings with the tag.
+   */
+  public void invalidateTag(@NotNull String tag) {
+    String script = pageCache.invalidateTag(tag);
+    if (script != null)
+      this.eval(script);
+  }
+
+  /**
+   * Binds a function like {@link #bind(String, WebViewBindCallback)}, but runs the handler on the
+   * given executor instead of the UI thread. If no executor is given, each call runs on its own
+   * virtual thread. Cancelling the call interrupts the handler.
+   */
+  public void bindAsync(@NotNull String name, @NotNull WebViewBindCallback handler,
+      @Nullable Executor executor) {
+    this.bind(name, handler,
+        executor == null ? BindOptions.virtual() : BindOptions.executor(executor));
+  }
+
+  /**
+   * Binds a function whose handler returns a {@link CompletableFuture}. The native callback returns
+   * immediately, so slow handlers never block rendering or input. The result is passed back to
+   * JavaScript once the future completes.
+   *
+   * Asynchronous functions can also be called with
+   * <code>webview.call(name, args, {signal, timeout})</code>. Aborting the signal, passing the
+   * timeout in milliseconds or leaving the page cancels the future, and no result is passed back.
+   */
+  public void bindAsync(@NotNull String name, @NotNull WebViewAsyncBindCallback handler) {
+    webview_bind$fn.Function callback = (seq, req, arg) -> {
+      // The native id is only valid during the callback, so keep a copy for the response.
+      this.invokeAsync(WebViewUtil.readString(seq), handler, WebViewUtil.readString(req), 0, 0);
     };
 
+    this.bind(name, callback);
+    this.calls.register(name, handler);
+
+    if (cancellable.compareAndSet(false, true)) {
+      this.bind(CallRegistry.CALL, (webview_bind$fn.Function) this::invokeCall);
+      this.bind(CallRegistry.CANCEL, jsonArgs -> {
+        this.calls.cancel(BindArgs.of(jsonArgs).getLong(0));
+        return null;
+      });
+      this.setInitScript(CallRegistry.SCRIPT + CallRegistry.RESET);
+      this.eval(CallRegistry.SCRIPT);
+    }
+  }
+
+  /**
+   * Handles <code>webview.call(name, args, {signal, timeout})</code>, passing the call id and
+   * timeout along with the name and arguments.
+   */
+  private void invokeCall(MemorySegment seq, MemorySegment req, MemorySegment arg) {
+    String id = WebViewUtil.readString(seq);
+    try {
+      BindArgs args = BindArgs.of(WebViewUtil.readString(req));
+      WebViewAsyncBindCallback handler = calls.get(args.getString(1));
+      if (handler == null) {
+        this.respond(id, WEBVIEW_ERROR_NOT_FOUND(), errors.toJson(new WebViewException(
+            "WEBVIEW_NOT_FOUND", "Not an asynchronous function: " + args.getRaw(1))));
+        return;
+      }
+
+      String request = args.isNull(2) ? "[]" : args.getRaw(2);
+      long timeout = args.isNull(3) ? 0 : args.getLong(3);
+      this.invokeAsync(id, handler, request, args.getLong(0), timeout);
+    } catch (Throwable e) {
+      // An exception must not escape the upcall, which would terminate the JVM.
+      this.respond(id, WEBVIEW_ERROR_UNSPECIFIED(), errors.toJson(e));
+    }
+  }
+
+  /**
+   * Starts an asynchronous call and responds once it completes. Calls with a call id are tracked,
+   * so the page can cancel them.
+   */
+  private void invokeAsync(String id, WebViewAsyncBindCallback handler, String request, long call,
+      long timeout) {
+    CompletableFuture<String> future = CallRegistry.start(handler, request);
+    CallRegistry.Call tracked = call == 0 ? null : this.calls.track(call, future, timeout);
+
+    future.whenComplete((response, error) -> {
+      if (error instanceof CancellationException && tracked != null && tracked.isCancelled()) {
+        // The page no longer waits for the result, but must still release the native call.
+        this.respond(id, WEBVIEW_ERROR_UNSPECIFIED(), "null");
+        return;
+      }
+
+      int result = WEBVIEW_ERROR_OK();
+      if (error != null) {
+        Throwable cause = error instanceof CompletionException ? error.getCause() : error;
+        result = WEBVIEW_ERROR_UNSPECIFIED();
+        response = errors.toJson(cause);
+      } else
+        response = WebViewUtil.forceSafeChars(response == null ? "null" : response);
+
+      this.respond(id, result, response);
+    });
+  }
+
+  /**
+   * Lets Web Workers call the asynchronous bound functions through
+   * <code>self.webview.call(name, args)</code>. The calls of all workers are relayed through the
+   * main window in batches, so the main thread stays free for rendering. Only workers created
+   * after the first call are relayed, further calls have no effect.
+   */
+  public void enableWorkerRelay() {
+    if (!relaying.compareAndSet(false, true))
+      return;
+
+    WorkerRelay relay = new WorkerRelay(calls, errors, this::eval);
+    this.bind(WorkerRelay.RELAY, (WebViewBindCallback) relay::relay);
+    this.setInitScript(WorkerRelay.SCRIPT);
+    this.eval(WorkerRelay.SCRIPT);
+  }
+
+  /**
+   * Exposes the public methods of a service object under the given namespace, e.g.
+   * <code>bindService("api.orders", orders)</code> makes <code>orders.list(String)</code> callable
+   * as <code>window.api.orders.list(...)</code>.
+   *
+   * All methods share a single native binding and a JavaScript proxy, so the cost of loading a page
+   * does not grow with the number of exposed methods. Exposed are the public methods that accept
+   * no parameter or the JSON arguments as string and return a string.
+   */
+  public void bindService(@NotNull String namespace, @NotNull Object service) {
+    String binding = "__service_" + namespace.replace('.', '_');
+    this.bind(binding, ServiceRouter.of(service));
+
+    String script = ServiceRouter.createScript(namespace, binding);
+    this.setInitScript(script);
+    this.eval(script);
+  }
+
+  /**
+   * Passes the response of an asynchronous call back to JavaScript. The native side resolves the
+   * promise on the UI thread, so this can be called from any thread.
+   */
+  private void respond(String id, int result, String response) {
+    lifecycle.readLock().lock();
     try {
-      var methodType = MethodType.methodType(void.class, MemorySegment.class, MemorySegment.class,
-          MemorySegment.class);
-      var handle = MethodHandles.lookup().findVirtual(BindCallback.class, "callback", methodType);
-      handle = handle.bindTo(callback);
-      var func =
-          FunctionDescriptor.ofVoid(ValueLayout.ADDRESS.withTargetLayout(ValueLayout.JAVA_LONG),
-              ValueLayout.ADDRESS
-                  .withTargetLayout(MemoryLayout.sequenceLayout(10, ValueLayout.JAVA_CHAR)),
-              ValueLayout.ADDRESS.withTargetLayout(ValueLayout.JAVA_LONG));
-      var upcall = LINKER.upcallStub(handle, func, arena);
-
-      webview_bind(this.handle, arena.allocateFrom(name), upcall, arena.allocate(0));
+      if (destroyed)
+        return; // Closed while the call was in flight.
 
+      try (Arena scope = Arena.ofConfined()) {
+        webview_return(handle, scope.allocateFrom(id), result, scope.allocateFrom(response));
+      }
+    } finally {
+      lifecycle.readLock().unlock();
+    }
+  }
+
+  /**
+   * Registers the callback in the binding table and binds it to the shared upcall stub. The slot
+   * index is passed as the native user argument. If the name is already bound, only the callback is
+   * swapped.
+   */
+  private void bind(String name, webview_bind$fn.Function callback) {
+    calls.unregister(name);
+    coalescers.remove(name);
+    limiters.remove(name);
+
+    int index = bindings.add(name, callback);
+    if (index < 0)
+      return; // Replaced the handler of an existing binding.
+
+    try (Arena scope = Arena.ofConfined()) {
+      int error = webview_bind(this.handle, scope.allocateFrom(name), binder,
+          MemorySegment.ofAddress(index));
+      if (error != WEBVIEW_ERROR_OK())
+        bindings.remove(name);
     } catch (Throwable e) {
+      bindings.remove(name);
       e.printStackTrace();
     }
   }
 
+  /**
+   * Called by the shared upcall stub for every bound function.
+   */
+  private void invoke(MemorySegment seq, MemorySegment req, MemorySegment arg) {
+    var callback = bindings.get(arg.address());
+    if (callback != null) {
+      callback.apply(seq, req, arg);
+      return;
+    }
+
+    // The function was unbound while the page still had a reference to it.
+    try (Arena scope = Arena.ofConfined()) {
+      webview_return(handle, seq, WEBVIEW_ERROR_NOT_FOUND(), scope.allocateFrom("null"));
+    }
+  }
+
   /**
    * Unbinds a function, removing it from future pages.
    */
   public void unbind(@NotNull String name) {
-    webview_unbind(handle, arena.allocateFrom(name));
+    calls.unregister(name);
+    coalescers.remove(name);
+    limiters.remove(name);
+    if (!bindings.remove(name))
+      return;
+
+    try (Arena scope = Arena.ofConfined()) {
+      webview_unbind(handle, scope.allocateFrom(name));
+    }
+  }
+
+  /**
+   * Installs the JavaScript function once in the current and all future pages, so it can be
+   * invoked by id with arguments, without parsing a new script for each call.
+   */
+  public PreparedScript prepare(@NotNull String function) {
+    int id = prepared.incrementAndGet();
+    String script = "(window.__webview_prepared = window.__webview_prepared || [])[" + id + "] = ("
+        + function + ");";
+    this.setInitScript(script);
+
+    // Installed directly, so it precedes any invocation even if eval is batched.
+    this.dispatch(() -> {
+      try (Arena scope = Arena.ofConfined()) {
+        webview_eval(handle, scope.allocateFrom(script));
+      }
+    });
+    return new PreparedScript(this, id);
+  }
+
+  /**
+   * Evaluates the JavaScript expression and gets its result as JSON, waiting for promises. The
+   * future fails if the expression throws, and times out after 30 seconds.
+   */
+  public CompletableFuture<String> evalAndGet(@NotNull String expression) {
+    return this.evalAndGet(expression, Duration.ofSeconds(30));
+  }
+
+  /**
+   * Evaluates the JavaScript expression and gets its result as JSON, waiting for promises. The
+   * future fails if the expression throws, and times out after the given timeout. The future is
+   * completed on the event thread.
+   */
+  public CompletableFuture<String> evalAndGet(@NotNull String expression,
+      @NotNull Duration timeout) {
+    CompletableFuture<String> future = new CompletableFuture<>();
+    this.eval(results.add(expression, future, timeout.toMillis()));
+    return future;
+  }
+
+  /**
+   * Calls a JavaScript function of the page by its path, e.g.
+   * <code>wv.call("app.update", id, state)</code>. The arguments are serialized like the results of
+   * typed bindings, straight into the native script as JavaScript literals, so there is no
+   * formatting, escaping or quoting to get wrong. The arguments are serialized before this
+   * returns, so they may be changed afterwards; a value that can't be serialized fails with an
+   * {@link IllegalArgumentException}.
+   */
+  public void call(@NotNull String function, @Nullable Object... args) {
+    if (!FUNCTION.matcher(function).matches())
+      throw new IllegalArgumentException("Not a function path: " + function);
+
+    this.evalCall(function, args);
   }
 
-  /** Executes an event on the event thread. */
-  @Deprecated
+  /**
+   * Calls the JavaScript function with the arguments. The arguments are serialized on the calling
+   * thread, so they can't change before the event thread gets to them and a value that can't be
+   * serialized fails the caller. With batching, the call is queued along with other scripts, so it
+   * runs in order with {@link #eval(String)}.
+   */
+  void evalCall(String function, Object[] args) {
+    String script;
+    try (JsonWriter writer = new JsonWriter(256)) {
+      writer.beginCall(function);
+      if (args != null)
+        for (Object arg : args)
+          writer.value(arg);
+      writer.endCall();
+      script = WebViewUtil.readString(writer.toSegment());
+    } catch (RuntimeException | Error e) {
+      throw e;
+    } catch (Throwable e) {
+      throw new IllegalArgumentException("Cannot serialize the arguments of " + function, e);
+    }
+
+    if (evalWindow != null) {
+      this.eval(script);
+      return;
+    }
+
+    this.dispatch(() -> {
+      try (Arena scope = Arena.ofConfined()) {
+        webview_eval(handle, scope.allocateFrom(script));
+      }
+    });
+  }
+
+  /**
+   * Evaluates the queued scripts with a single native call, on the event thread.
+   */
+  private void evalBatch() {
+    String batch = evals.take(MAX_BATCH, leanEval ? sources : null);
+    if (batch != null)
+      try (Arena scope = Arena.ofConfined()) {
+        webview_eval(handle, scope.allocateFrom(batch));
+      }
+
+    // Leave the rest to the next wakeup, so the page can render in between.
+    if (evals.reschedule())
+      this.dispatch(this::evalBatch);
+  }
+
+  /**
+   * Executes an event on the event thread. Can be called from any thread; events posted before the
+   * event thread wakes up are executed together in a single batch.
+   */
   public void dispatch(@NotNull Runnable handler) {
-    // N.webview_dispatch($pointer, ($pointer, arg) -> {
-    // handler.run();
-    // }, 0);
+    lifecycle.readLock().lock();
+    try {
+      if (destroyed)
+        return; // The event loop is gone, so the event would never run.
+
+      tasks.offer(handler);
+      if (scheduled.compareAndSet(false, true))
+        webview_dispatch(handle, dispatcher, MemorySegment.NULL);
+    } finally {
+      lifecycle.readLock().unlock();
+    }
+  }
+
+  /**
+   * Runs the pending events on the event thread, called once per native wakeup.
+   */
+  private void drain() {
+    // Events posted from now on schedule another wakeup.
+    scheduled.set(false);
+
+    Runnable task;
+    for (int i = 0; i < MAX_BATCH && (task = tasks.poll()) != null; i++) {
+      try {
+        task.run();
+      } catch (Throwable e) {
+        e.printStackTrace();
+      }
+    }
+
+    // Give the event loop a chance to render before running the rest.
+    if (!tasks.isEmpty() && scheduled.compareAndSet(false, true))
+      webview_dispatch(handle, dispatcher, MemorySegment.NULL);
   }
 
   /**
    * Executes the webview event loop until the user presses "X" on the window.
    */
   public void run() {
-    webview_run(handle);
-    webview_destroy(handle);
+    lifecycle.writeLock().lock();
+    try {
+      if (destroyed || looping)
+        return;
+      looping = true;
+    } finally {
+      lifecycle.writeLock().unlock();
+    }
+
+    try {
+      webview_run(handle);
+    } finally {
+      this.destroy();
+    }
   }
 
   /** Executes the webview event loop asynchronously until the user presses "X" on the window. */
@@ -266,21 +886,43 @@ public class WebView implements Closeable, Runnable {
     t.start();
   }
 
-  /** Closes the webview, call this to end the event loop and free up resources. */
+  /**
+   * Closes the webview, call this to end the event loop and free up resources. While the event
+   * loop runs, it is only asked to stop, and the resources are freed once it has exited.
+   */
   public void close() {
-    webview_terminate(handle);
-    arena.close();
-    handle = null;
-    arena = null;
-  }
-
-  @FunctionalInterface
-  private interface BindCallback {
-    /**
-     * @param seq The request id, used in {@link webview_return}
-     * @param req The javascript arguments converted to a json array (string)
-     * @param arg Unused
-     */
-    void callback(MemorySegment seq, MemorySegment req, MemorySegment arg);
+    lifecycle.writeLock().lock();
+    try {
+      if (destroyed)
+        return;
+      if (looping)
+        webview_terminate(handle);
+      else
+        this.destroy(); // Never ran, so nothing else can use it.
+    } finally {
+      lifecycle.writeLock().unlock();
+    }
+  }
+
+  /**
+   * Destroys the native webview and frees the upcall stubs. Calls still in flight are cancelled,
+   * and their responses are dropped.
+   */
+  private void destroy() {
+    lifecycle.writeLock().lock();
+    try {
+      if (destroyed)
+        return;
+
+      destroyed = true;
+      webview_destroy(handle);
+      arena.close();
+      handle = null;
+      arena = null;
+    } finally {
+      lifecycle.writeLock().unlock();
+    }
+
+    this.calls.cancel(0);
   }
 }
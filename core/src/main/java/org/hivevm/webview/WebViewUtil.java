@@ -22,10 +22,36 @@ package org.hivevm.webview;
 
 import java.io.PrintWriter;
 import java.io.StringWriter;
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+import java.nio.charset.StandardCharsets;
 import org.jetbrains.annotations.NotNull;
 
 public class WebViewUtil {
 
+  private static final int                 BUFFER_LIMIT = 64 * 1024;
+  private static final long                LOW_BITS     = 0x0101010101010101L;
+  private static final long                HIGH_BITS    = 0x8080808080808080L;
+
+  private static final ThreadLocal<byte[]> BUFFER       =
+      ThreadLocal.withInitial(() -> new byte[1024]);
+
+  static final char[]                      HEX          = "0123456789abcdef".toCharArray();
+
+  private static final byte[]              ESCAPES      = new byte[128];
+
+  static {
+    for (int ch = 0; ch < 0x20; ch++)
+      ESCAPES[ch] = 'u';
+    ESCAPES['\n'] = 'n';
+    ESCAPES['\t'] = 't';
+    ESCAPES['\r'] = 'r';
+    ESCAPES['\b'] = 'b';
+    ESCAPES['\f'] = 'f';
+    ESCAPES['"'] = '"';
+    ESCAPES['\\'] = '\\';
+  }
+
   public static String getExceptionStack(@NotNull Throwable e) {
     StringWriter sw = new StringWriter();
     try (PrintWriter writer = new PrintWriter(sw)) {
@@ -37,93 +63,119 @@ public class WebViewUtil {
     return result.substring(0, result.length() - 2).replace("\r", "");
   }
 
+  /**
+   * Escapes the input for use in a JSON string. All characters outside of ASCII are escaped as
+   * well. Returns the input itself if nothing needs to be escaped.
+   */
   public static String jsonEscape(@NotNull String input) {
-    char[] chars = input.toCharArray();
-
-    StringBuilder output = new StringBuilder();
-
-    for (char ch : chars) {
-      switch (ch) {
-        case 0: {
-          output.append("\\u0000");
-          break;
-        }
-
-        case '\n': {
-          output.append("\\n");
-          break;
-        }
-
-        case '\t': {
-          output.append("\\t");
-          break;
-        }
-
-        case '\r': {
-          output.append("\\r");
-          break;
-        }
-
-        case '\\': {
-          output.append("\\\\");
-          break;
-        }
-
-        case '"': {
-          output.append("\\\"");
-          break;
-        }
-
-        case '\b': {
-          output.append("\\b");
-          break;
-        }
-
-        case '\f': {
-          output.append("\\f");
-          break;
-        }
-
-        default: {
-          if (ch > 127) {
-            output.append("\\u").append(String.format("%04x", (int) ch));
-          } else {
-            output.append(ch);
-          }
-
-          break;
-        }
+    return WebViewUtil.escape(input, true);
+  }
+
+  /**
+   * Escapes NUL and all characters outside of ASCII. Returns the input itself if nothing needs to
+   * be escaped.
+   */
+  public static String forceSafeChars(@NotNull String input) {
+    return WebViewUtil.escape(input, false);
+  }
+
+  /**
+   * Gets the character of the short escape sequence for an ASCII character, <code>'u'</code> if it
+   * has to be escaped as unicode, or 0 if it can be used as is.
+   */
+  static char escapeOf(char ch) {
+    return (char) ESCAPES[ch];
+  }
+
+  private static String escape(String input, boolean json) {
+    int length = input.length();
+
+    // Most inputs don't need any escaping, so scan before allocating.
+    int first = 0;
+    while (first < length && !WebViewUtil.needsEscape(input.charAt(first), json))
+      first++;
+    if (first == length)
+      return input;
+
+    int size = first;
+    for (int i = first; i < length; i++) {
+      char ch = input.charAt(i);
+      if (!WebViewUtil.needsEscape(ch, json))
+        size++;
+      else
+        size += ch < 128 && ESCAPES[ch] != 'u' ? 2 : 6;
+    }
+
+    char[] output = new char[size];
+    input.getChars(0, first, output, 0);
+
+    int pos = first;
+    for (int i = first; i < length; i++) {
+      char ch = input.charAt(i);
+      if (!WebViewUtil.needsEscape(ch, json)) {
+        output[pos++] = ch;
+      } else if (ch < 128 && ESCAPES[ch] != 'u') {
+        output[pos++] = '\\';
+        output[pos++] = (char) ESCAPES[ch];
+      } else {
+        output[pos++] = '\\';
+        output[pos++] = 'u';
+        output[pos++] = HEX[ch >> 12];
+        output[pos++] = HEX[(ch >> 8) & 0xF];
+        output[pos++] = HEX[(ch >> 4) & 0xF];
+        output[pos++] = HEX[ch & 0xF];
       }
     }
+    return new String(output);
+  }
 
-    return output.toString();
+  private static boolean needsEscape(char ch, boolean json) {
+    return ch > 127 || ch == 0 || (json && ESCAPES[ch] != 0);
   }
 
-  public static String forceSafeChars(@NotNull String input) {
-    char[] chars = input.toCharArray();
-
-    StringBuilder output = new StringBuilder();
-
-    for (char ch : chars) {
-      switch (ch) {
-        case 0: {
-          output.append("\\u0000");
-          break;
-        }
-
-        default: {
-          if (ch > 127) {
-            output.append("\\u").append(String.format("%04x", (int) ch));
-          } else {
-            output.append(ch);
-          }
-
-          break;
-        }
-      }
+  /**
+   * Reads a NUL terminated UTF-8 string from native memory. The bytes are copied into a buffer
+   * that is reused per thread, so decoding only allocates the resulting {@link String}.
+   */
+  static String readString(@NotNull MemorySegment segment) {
+    int length = WebViewUtil.strlen(segment);
+    if (length == 0)
+      return "";
+
+    byte[] buffer = BUFFER.get();
+    if (buffer.length < length) {
+      buffer = new byte[Math.max(length, buffer.length * 2)];
+      if (buffer.length <= BUFFER_LIMIT)
+        BUFFER.set(buffer);
     }
 
-    return output.toString();
+    MemorySegment.copy(segment, ValueLayout.JAVA_BYTE, 0, buffer, 0, length);
+    return new String(buffer, 0, length, StandardCharsets.UTF_8);
   }
 
+  /**
+   * Gets the length of a NUL terminated string, testing eight bytes at once. Words are only read at
+   * aligned addresses, so the scan never crosses into a page past the terminator, and only within
+   * the bounds of the segment, which are unbounded for pointers passed by the native library.
+   */
+  private static int strlen(MemorySegment segment) {
+    long offset = 0;
+    while ((segment.address() + offset) % Long.BYTES != 0) {
+      if (segment.get(ValueLayout.JAVA_BYTE, offset) == 0)
+        return (int) offset;
+      offset++;
+    }
+
+    long words = segment.byteSize() - Long.BYTES;
+    while (offset <= words) {
+      long word = segment.get(ValueLayout.JAVA_LONG, offset);
+      if (((word - LOW_BITS) & ~word & HIGH_BITS) != 0)
+        break;
+      offset += Long.BYTES;
+    }
+
+    while (segment.get(ValueLayout.JAVA_BYTE, offset) != 0)
+      offset++;
+    return Math.toIntExact(offset);
+  }
 }
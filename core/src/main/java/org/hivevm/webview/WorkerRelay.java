@@ -0,0 +1,172 @@
+/**
+ * MIT License
+ * 
+ * Copyright (c) 2025 HiveVM
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.hivevm.webview;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Consumer;
+
+/**
+ * The {@link WorkerRelay} lets Web Workers call asynchronous bound functions through
+ * <code>self.webview.call(name, args)</code>. Bindings only exist on the main window, so the
+ * script patches <code>Worker</code> to inject a client into each worker, and relays the calls of
+ * all workers through a single binding. Calls made in the same task are collected into a batch,
+ * so under load many calls share a single native invocation.
+ *
+ * The binding only starts the calls of a batch. Each call replies on its own once it completes,
+ * so a slow call never holds back the others, and several batches may be in flight.
+ *
+ * Workers are started from a blob, which imports the original script. Relative imports within the
+ * worker therefore resolve against the blob, and a content security policy must allow blob
+ * workers.
+ */
+class WorkerRelay {
+
+  static final String RELAY   = "__webview_relay";
+  static final String RELAYED = "__webview_relayed";
+
+  /** The client injected into each worker. */
+  static final String CLIENT = """
+      (() => {
+        const webview = self.webview = self.webview || {};
+        const pending = new Map();
+        const decode = %s;
+        let next = 0;
+        webview.call = (name, args = []) => new Promise((resolve, reject) => {
+          const id = ++next;
+          pending.set(id, [resolve, reject]);
+          self.postMessage({ __webview_call: [id, name, args] });
+        });
+        self.addEventListener('message', event => {
+          const data = event.data;
+          if (!data || data.__webview === undefined)
+            return;
+          event.stopImmediatePropagation();
+          const [resolve, reject] = pending.get(data.__webview);
+          pending.delete(data.__webview);
+          if (data.ok)
+            resolve(decode(data.value));
+          else
+            reject(data.value);
+        });
+      })();
+      """.formatted(BindCompression.DECODE);
+
+  static final String SCRIPT = """
+      const NativeWorker = window.Worker;
+      if (NativeWorker && !NativeWorker.relayed) {
+        const client = %s;
+        const calls = new Map();
+        let queue = [];
+        let next = 0;
+        const reply = (call, ok, value) =>
+          call.worker.postMessage({ __webview: call.id, ok, value });
+        window.__webview_relayed = (id, ok, value) => {
+          const call = calls.get(id);
+          if (call) {
+            calls.delete(id);
+            reply(call, ok, value);
+          }
+        };
+        const flush = () => {
+          const batch = queue;
+          queue = [];
+          window.__webview_relay(batch.map(call => [call.relay, call.name, call.args])).catch(
+            error => batch.forEach(call => window.__webview_relayed(call.relay, false, error)));
+        };
+        const Worker = function (url, options) {
+          const source = JSON.stringify(new URL(url, location.href).href);
+          const module = options && options.type === 'module';
+          const code = client + (module ? `import(${source});` : `importScripts(${source});`);
+          const blob = new Blob([code], { type: 'text/javascript' });
+          const worker = new NativeWorker(URL.createObjectURL(blob), options);
+          worker.addEventListener('message', event => {
+            const call = event.data && event.data.__webview_call;
+            if (!call)
+              return;
+            event.stopImmediatePropagation();
+            const relay = ++next;
+            calls.set(relay, { worker, id: call[0] });
+            queue.push({ relay, name: call[1], args: call[2] });
+            if (queue.length === 1)
+              setTimeout(flush);
+          });
+          return worker;
+        };
+        Worker.prototype = NativeWorker.prototype;
+        Worker.relayed = true;
+        window.Worker = Worker;
+      }
+      """.formatted('"' + WebViewUtil.jsonEscape(CLIENT) + '"');
+
+  private final CallRegistry     calls;
+  private final BindErrors       errors;
+  private final Consumer<String> replies;
+
+  /**
+   * Constructs an instance of {@link WorkerRelay}, which passes the script of each reply to the
+   * given consumer.
+   */
+  WorkerRelay(CallRegistry calls, BindErrors errors, Consumer<String> replies) {
+    this.calls = calls;
+    this.errors = errors;
+    this.replies = replies;
+  }
+
+  /**
+   * Starts a batch of calls relayed from workers, as <code>[[id, name, args], ...]</code>. Each
+   * call replies with <code>__webview_relayed(id, ok, result)</code> once it completes.
+   */
+  String relay(String jsonArgs) {
+    String json = BindArgs.of(jsonArgs).getRaw(0);
+    if (json == null)
+      throw new WebViewException("WEBVIEW_INVALID", "Missing batch of calls");
+    BindArgs batch = BindArgs.of(json);
+
+    for (int i = 0; i < batch.size(); i++) {
+      BindArgs call = BindArgs.of(batch.getRaw(i));
+      long id = call.getLong(0);
+
+      CompletableFuture<String> future;
+      try {
+        WebViewAsyncBindCallback handler = calls.get(call.getString(1));
+        if (handler == null)
+          throw new WebViewException("WEBVIEW_NOT_FOUND",
+              "Not an asynchronous function: " + call.getRaw(1));
+        future = CallRegistry.start(handler, call.isNull(2) ? "[]" : call.getRaw(2));
+      } catch (Throwable e) {
+        future = CompletableFuture.failedFuture(e);
+      }
+
+      future.whenComplete((response, error) -> {
+        String reply;
+        if (error != null) {
+          Throwable cause = error instanceof CompletionException ? error.getCause() : error;
+          reply = "false," + errors.toJson(cause);
+        } else
+          reply = "true," + (response == null ? "null" : response);
+        replies.accept(WebViewUtil.forceSafeChars(
+            "window." + RELAYED + " && window." + RELAYED + "(" + id + "," + reply + ");"));
+      });
+    }
+    return null;
+  }
+}
@@ -0,0 +1,107 @@
+/**
+ * MIT License
+ * 
+ * Copyright (c) 2025 HiveVM
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.hivevm.webview;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.lang.reflect.Type;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class BindArgsTest {
+
+  record Order(String id, int quantity) {}
+
+  @SuppressWarnings("unused")
+  private static void orders(List<Order> orders) {}
+
+  @Test
+  void size() {
+    assertEquals(0, BindArgs.of("[]").size());
+    assertEquals(0, BindArgs.of(" [ ] ").size());
+    assertEquals(3, BindArgs.of("[1, \"a,b\", [2,3]]").size());
+  }
+
+  @Test
+  void scalars() {
+    BindArgs args = BindArgs.of("[\"text\", 42, -1.5, true, false, \"7\"]");
+    assertEquals("text", args.getString(0));
+    assertEquals(42, args.getInt(1));
+    assertEquals(42L, args.getLong(1));
+    assertEquals(-1.5, args.getDouble(2));
+    assertTrue(args.getBoolean(3));
+    assertFalse(args.getBoolean(4));
+    assertEquals(7, args.getLong(5));
+  }
+
+  @Test
+  void escapedStrings() {
+    BindArgs args = BindArgs.of("[\"a\\\"b\\\\c\\n\\u20ac\", 1]");
+    assertEquals("a\"b\\c\n€", args.getString(0));
+    assertEquals(1, args.getInt(1));
+  }
+
+  @Test
+  void missingAndNull() {
+    BindArgs args = BindArgs.of("[null]");
+    assertTrue(args.isNull(0));
+    assertTrue(args.isNull(1));
+    assertNull(args.getString(0));
+    assertNull(args.getString(5));
+    assertNull(args.getRaw(1));
+  }
+
+  @Test
+  void rawValues() {
+    BindArgs args = BindArgs.of("[{\"a\": [1, 2]}, 3]");
+    assertEquals("{\"a\": [1, 2]}", args.getRaw(0));
+    assertEquals("{\"a\": [1, 2]}", args.getString(0));
+    assertEquals("3", args.getRaw(1));
+  }
+
+  @Test
+  void outOfOrderAccess() {
+    BindArgs args = BindArgs.of("[\"a\", \"b\", \"c\"]");
+    assertEquals("c", args.getString(2));
+    assertEquals("a", args.getString(0));
+    assertEquals("b", args.getString(1));
+  }
+
+  @Test
+  void typedValues() throws Throwable {
+    BindArgs args = BindArgs.of("[{\"id\":\"o-1\",\"quantity\":2}, null]");
+    assertEquals(new Order("o-1", 2), args.get(0, Order.class));
+    assertNull(args.get(1, Order.class));
+    assertEquals(0, (int) args.get(1, int.class));
+    assertEquals(0, (int) args.get(2, int.class));
+  }
+
+  @Test
+  void genericValues() throws Throwable {
+    Type type = BindArgsTest.class.getDeclaredMethod("orders", List.class)
+        .getGenericParameterTypes()[0];
+    BindArgs args = BindArgs.of("[[{\"id\":\"o-1\",\"quantity\":2},{\"id\":\"o-2\"}]]");
+    assertEquals(List.of(new Order("o-1", 2), new Order("o-2", 0)), args.get(0, type));
+  }
+}
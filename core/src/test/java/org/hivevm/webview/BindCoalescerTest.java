@@ -0,0 +1,191 @@
+/**
+ * MIT License
+ * 
+ * Copyright (c) 2025 HiveVM
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.hivevm.webview;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+
+class BindCoalescerTest {
+
+  private static final long TTL = TimeUnit.MINUTES.toNanos(1);
+
+  @Test
+  void cachesResults() throws Throwable {
+    AtomicInteger calls = new AtomicInteger();
+    WebViewBindCallback handler =
+        new BindCoalescer(false, 2, TTL).wrap(jsonArgs -> "\"" + calls.incrementAndGet() + "\"");
+
+    assertEquals("\"1\"", handler.apply("[1]"));
+    assertEquals("\"1\"", handler.apply("[1]"));
+    assertEquals("\"2\"", handler.apply("[2]"));
+    assertEquals(2, calls.get());
+  }
+
+  @Test
+  void evictsLeastRecentlyUsed() throws Throwable {
+    AtomicInteger calls = new AtomicInteger();
+    WebViewBindCallback handler =
+        new BindCoalescer(false, 2, TTL).wrap(jsonArgs -> "\"" + calls.incrementAndGet() + "\"");
+
+    handler.apply("[1]");
+    handler.apply("[2]");
+    handler.apply("[1]");
+    handler.apply("[3]"); // Evicts [2]
+    assertEquals("\"1\"", handler.apply("[1]"));
+    assertEquals("\"4\"", handler.apply("[2]"));
+  }
+
+  @Test
+  void expiresResults() throws Throwable {
+    AtomicInteger calls = new AtomicInteger();
+    WebViewBindCallback handler =
+        new BindCoalescer(false, 2, TimeUnit.MILLISECONDS.toNanos(20))
+            .wrap(jsonArgs -> "\"" + calls.incrementAndGet() + "\"");
+
+    handler.apply("[1]");
+    Thread.sleep(40);
+    assertEquals("\"2\"", handler.apply("[1]"));
+  }
+
+  @Test
+  void requiresPositiveTtl() {
+    assertThrows(IllegalArgumentException.class,
+        () -> BindOptions.virtual().withCache(2, Duration.ZERO));
+    assertThrows(IllegalArgumentException.class,
+        () -> BindOptions.virtual().withCache(2, Duration.ofSeconds(-1)));
+  }
+
+  @Test
+  void invalidates() throws Throwable {
+    AtomicInteger calls = new AtomicInteger();
+    BindCoalescer coalescer = new BindCoalescer(false, 4, TTL);
+    WebViewBindCallback handler =
+        coalescer.wrap(jsonArgs -> "\"" + calls.incrementAndGet() + "\"");
+
+    handler.apply("[1]");
+    handler.apply("[2]");
+    coalescer.invalidate("[1]");
+    assertEquals("\"3\"", handler.apply("[1]"));
+    assertEquals("\"2\"", handler.apply("[2]"));
+
+    coalescer.invalidateAll();
+    assertEquals("\"4\"", handler.apply("[2]"));
+  }
+
+  @Test
+  void sharesCallsInFlight() throws Throwable {
+    AtomicInteger calls = new AtomicInteger();
+    CompletableFuture<String> result = new CompletableFuture<>();
+    WebViewAsyncBindCallback handler = new BindCoalescer(true, 0, 0).wrapAsync(jsonArgs -> {
+      calls.incrementAndGet();
+      return result;
+    });
+
+    CompletableFuture<String> first = handler.apply("[1]");
+    CompletableFuture<String> second = handler.apply("[1]");
+    assertEquals(1, calls.get());
+
+    result.complete("\"done\"");
+    assertEquals("\"done\"", first.get());
+    assertEquals("\"done\"", second.get());
+
+    // Once completed, the next call executes again.
+    handler.apply("[1]");
+    assertEquals(2, calls.get());
+  }
+
+  @Test
+  void keepsFlightWhileCallersWait() throws Throwable {
+    CompletableFuture<String> execution = new CompletableFuture<>();
+    WebViewAsyncBindCallback handler =
+        new BindCoalescer(true, 0, 0).wrapAsync(jsonArgs -> execution);
+
+    CompletableFuture<String> first = handler.apply("[1]");
+    CompletableFuture<String> second = handler.apply("[1]");
+    first.cancel(true);
+    assertFalse(execution.isCancelled());
+
+    execution.complete("\"done\"");
+    assertEquals("\"done\"", second.get());
+  }
+
+  @Test
+  void cancelsFlightWithLastCaller() throws Throwable {
+    List<CompletableFuture<String>> executions = new ArrayList<>();
+    WebViewAsyncBindCallback handler = new BindCoalescer(true, 0, 0).wrapAsync(jsonArgs -> {
+      CompletableFuture<String> execution = new CompletableFuture<>();
+      executions.add(execution);
+      return execution;
+    });
+
+    CompletableFuture<String> first = handler.apply("[1]");
+    CompletableFuture<String> second = handler.apply("[1]");
+    first.cancel(true);
+    second.cancel(true);
+    assertEquals(1, executions.size());
+    assertTrue(executions.get(0).isCancelled());
+
+    // The next call doesn't join the cancelled flight.
+    CompletableFuture<String> third = handler.apply("[1]");
+    assertEquals(2, executions.size());
+    executions.get(1).complete("\"done\"");
+    assertEquals("\"done\"", third.get());
+  }
+
+  @Test
+  void sharesFailures() throws Throwable {
+    IllegalStateException error = new IllegalStateException("failed");
+    WebViewAsyncBindCallback handler = new BindCoalescer(true, 4, TTL)
+        .wrapAsync(jsonArgs -> CompletableFuture.failedFuture(error));
+
+    ExecutionException e = assertThrows(ExecutionException.class, () -> handler.apply("[]").get());
+    assertSame(error, e.getCause());
+  }
+
+  @Test
+  void doesNotCacheStaleResults() throws Throwable {
+    AtomicInteger calls = new AtomicInteger();
+    CompletableFuture<String> pending = new CompletableFuture<>();
+    BindCoalescer coalescer = new BindCoalescer(false, 4, TTL);
+    WebViewAsyncBindCallback handler = coalescer.wrapAsync(jsonArgs -> calls.incrementAndGet() == 1
+        ? pending : CompletableFuture.completedFuture("\"fresh\""));
+
+    handler.apply("[1]");
+    coalescer.invalidate("[1]");
+    pending.complete("\"stale\"");
+
+    assertEquals("\"fresh\"", handler.apply("[1]").get());
+    assertEquals("\"fresh\"", handler.apply("[1]").get());
+    assertEquals(2, calls.get());
+  }
+}
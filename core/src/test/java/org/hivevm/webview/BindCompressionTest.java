@@ -0,0 +1,117 @@
+/**
+ * MIT License
+ * 
+ * Copyright (c) 2025 HiveVM
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.hivevm.webview;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.Random;
+import java.util.zip.GZIPInputStream;
+import org.junit.jupiter.api.Test;
+
+class BindCompressionTest {
+
+  private static final int KB = 1024;
+
+  @Test
+  void skipsSmallResponses() throws Exception {
+    BindCompression compression = new BindCompression();
+    String json = repetitive(KB);
+
+    assertSame(json, compression.encode(json));
+    assertEquals(1024 * KB, compression.threshold());
+  }
+
+  @Test
+  void compressesLargeResponses() throws Exception {
+    BindCompression compression = new BindCompression(128 * KB, Double.MAX_VALUE);
+    String json = repetitive(256 * KB);
+
+    String encoded = compression.encode(json);
+    assertTrue(encoded.startsWith("{\"__webview_gzip\":\""));
+    assertTrue(encoded.length() < json.length() / 4);
+    assertEquals(json, inflate(encoded));
+  }
+
+  @Test
+  void lowersThresholdWhileCompressionPays() throws Exception {
+    BindCompression compression = new BindCompression(128 * KB, Double.MAX_VALUE);
+
+    compression.encode(repetitive(256 * KB));
+    assertEquals(64 * KB, compression.threshold());
+
+    // The threshold never drops below the minimum.
+    compression.encode(repetitive(256 * KB));
+    assertEquals(64 * KB, compression.threshold());
+  }
+
+  @Test
+  void raisesThresholdWhenDecodingIsSlow() throws Exception {
+    BindCompression compression = new BindCompression(128 * KB, 1000);
+
+    compression.encode(repetitive(256 * KB));
+    assertEquals(64 * KB, compression.threshold());
+
+    compression.decoded(8 * KB, 10_000);
+    assertEquals(128 * KB, compression.threshold());
+  }
+
+  @Test
+  void keepsResponsesThatDoNotShrink() throws Exception {
+    BindCompression compression = new BindCompression(128 * KB, Double.MAX_VALUE);
+    String json = random(256 * KB);
+
+    // The ratio starts out optimistic, so it takes a few responses to raise the threshold.
+    for (int i = 0; i < 10; i++)
+      assertSame(json, compression.encode(json));
+    assertTrue(compression.threshold() > 256 * KB);
+  }
+
+  private static String repetitive(int length) {
+    StringBuilder json = new StringBuilder("[");
+    while (json.length() < length)
+      json.append("{\"name\":\"item\",\"count\":1},");
+    return json.append("null]").toString();
+  }
+
+  private static String random(int length) {
+    Random random = new Random(1);
+    StringBuilder json = new StringBuilder("\"");
+    while (json.length() < length) {
+      char c = (char) ('#' + random.nextInt(91));
+      if (c != '\\')
+        json.append(c);
+    }
+    return json.append('"').toString();
+  }
+
+  private static String inflate(String encoded) throws Exception {
+    String base64 = encoded.substring("{\"__webview_gzip\":\"".length(), encoded.length() - 2);
+    byte[] gzip = Base64.getDecoder().decode(base64);
+    try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(gzip))) {
+      return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+    }
+  }
+}
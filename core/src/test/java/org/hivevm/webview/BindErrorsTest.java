@@ -0,0 +1,106 @@
+/**
+ * MIT License
+ * 
+ * Copyright (c) 2025 HiveVM
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.hivevm.webview;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class BindErrorsTest {
+
+  private final BindErrors errors = new BindErrors();
+  private LogCapture       log;
+
+  @BeforeEach
+  void capture() {
+    log = new LogCapture();
+  }
+
+  @AfterEach
+  void release() {
+    log.close();
+  }
+
+  @Test
+  void createsJson() {
+    assertEquals("{\"code\":\"WEBVIEW_ERROR\",\"type\":\"java.lang.IllegalStateException\","
+        + "\"message\":\"bad \\\"value\\\"\"}",
+        errors.toJson(new IllegalStateException("bad \"value\"")));
+    assertEquals("{\"code\":\"WEBVIEW_ERROR\",\"type\":\"java.lang.RuntimeException\"}",
+        errors.toJson(new RuntimeException()));
+  }
+
+  @Test
+  void keepsCodes() {
+    assertEquals("{\"code\":\"WEBVIEW_NOT_FOUND\","
+        + "\"type\":\"org.hivevm.webview.WebViewException\",\"message\":\"missing\"}",
+        errors.toJson(new WebViewException("WEBVIEW_NOT_FOUND", "missing")));
+    assertTrue(log.records().isEmpty());
+  }
+
+  @Test
+  void shedsRejectedCalls() {
+    String json = errors.toJson(new BindLimiter(1, 1).reject("Rate limit exceeded"));
+    assertTrue(json.startsWith("{\"code\":\"WEBVIEW_SHED\""), json);
+  }
+
+  @Test
+  void includesStack() {
+    Exception error = new Exception("failed");
+    error.setStackTrace(new StackTraceElement[] {
+        new StackTraceElement("a.A", "run", "A.java", 1),
+        new StackTraceElement("b.B", "call", "B.java", 2),
+        new StackTraceElement("c.C", "main", "C.java", 3) });
+    errors.setStackDepth(2);
+
+    assertEquals("{\"code\":\"WEBVIEW_ERROR\",\"type\":\"java.lang.Exception\","
+        + "\"message\":\"failed\",\"stack\":[\"a.A.run(A.java:1)\",\"b.B.call(B.java:2)\"]}",
+        errors.toJson(error));
+  }
+
+  @Test
+  void logsRepetitionsInPowersOf10() {
+    IllegalStateException error = new IllegalStateException("failed");
+    for (int i = 0; i < 100; i++)
+      errors.toJson(error);
+
+    assertEquals(3, log.records().size());
+    assertSame(error, log.records().get(0).getThrown());
+    assertEquals(10L, log.records().get(1).getParameters()[0]);
+    assertEquals(100L, log.records().get(2).getParameters()[0]);
+    assertNull(log.records().get(2).getThrown());
+  }
+
+  @Test
+  void limitsTheRateOfLogs() {
+    for (int i = 0; i < 50; i++)
+      errors.toJson(new IllegalStateException("failed " + i));
+
+    // The burst of 10 may have been refilled by a token while looping.
+    int logged = log.records().size();
+    assertTrue(logged >= 10 && logged <= 11, "Logged " + logged);
+  }
+}
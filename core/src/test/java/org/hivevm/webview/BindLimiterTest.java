@@ -0,0 +1,81 @@
+/**
+ * MIT License
+ * 
+ * Copyright (c) 2025 HiveVM
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.hivevm.webview;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.hivevm.webview.BindLimiter.BindRejectedException;
+import org.junit.jupiter.api.Test;
+
+class BindLimiterTest {
+
+  @Test
+  void unlimited() {
+    BindLimiter limiter = new BindLimiter(0, 0);
+    for (int i = 0; i < 1000; i++)
+      assertTrue(limiter.tryAcquire());
+
+    WebViewBindCallback handler = jsonArgs -> jsonArgs;
+    assertSame(handler, limiter.wrap(handler));
+  }
+
+  @Test
+  void burstThenShed() {
+    BindLimiter limiter = new BindLimiter(0.001, 3);
+    assertTrue(limiter.tryAcquire());
+    assertTrue(limiter.tryAcquire());
+    assertTrue(limiter.tryAcquire());
+    assertFalse(limiter.tryAcquire());
+  }
+
+  @Test
+  void refills() throws InterruptedException {
+    BindLimiter limiter = new BindLimiter(100, 1);
+    assertTrue(limiter.tryAcquire());
+    assertFalse(limiter.tryAcquire());
+
+    Thread.sleep(50);
+    assertTrue(limiter.tryAcquire());
+  }
+
+  @Test
+  void wrapShedsCalls() throws Throwable {
+    BindLimiter limiter = new BindLimiter(0.001, 1);
+    WebViewBindCallback handler = limiter.wrap(jsonArgs -> "\"ok\"");
+    assertEquals("\"ok\"", handler.apply("[]"));
+
+    BindRejectedException e = assertThrows(BindRejectedException.class, () -> handler.apply("[]"));
+    assertEquals(1, limiter.getShedCount());
+    assertEquals("{\"code\":\"WEBVIEW_SHED\",\"message\":\"Rate limit exceeded\"}", e.toJson());
+  }
+
+  @Test
+  void countsRejections() {
+    BindLimiter limiter = new BindLimiter(0, 0);
+    limiter.reject("a");
+    limiter.reject("b");
+    assertEquals(2, limiter.getShedCount());
+  }
+}
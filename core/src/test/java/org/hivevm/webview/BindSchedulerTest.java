@@ -0,0 +1,176 @@
+/**
+ * MIT License
+ * 
+ * Copyright (c) 2025 HiveVM
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.hivevm.webview;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.hivevm.webview.BindLimiter.BindRejectedException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+class BindSchedulerTest {
+
+  private final ExecutorService executor = Executors.newCachedThreadPool();
+
+  @AfterEach
+  void shutdown() {
+    executor.shutdownNow();
+  }
+
+  @Test
+  void runsCalls() throws Throwable {
+    BindScheduler scheduler =
+        scheduler(jsonArgs -> jsonArgs.replace('[', '{').replace(']', '}'), BindOptions.virtual());
+    assertEquals("{}", scheduler.apply("[]").get(5, TimeUnit.SECONDS));
+  }
+
+  @Test
+  void failsCalls() {
+    BindScheduler scheduler = scheduler(jsonArgs -> {
+      throw new IllegalStateException("failed");
+    }, BindOptions.executor(executor));
+
+    ExecutionException e = assertThrows(ExecutionException.class,
+        () -> scheduler.apply("[]").get(5, TimeUnit.SECONDS));
+    assertInstanceOf(IllegalStateException.class, e.getCause());
+  }
+
+  @Test
+  void limitsCallsInFlight() throws Throwable {
+    AtomicInteger running = new AtomicInteger();
+    AtomicInteger peak = new AtomicInteger();
+    BindScheduler scheduler = scheduler(jsonArgs -> {
+      peak.accumulateAndGet(running.incrementAndGet(), Math::max);
+      Thread.sleep(5);
+      running.decrementAndGet();
+      return jsonArgs;
+    }, BindOptions.executor(executor).withMaxInFlight(2));
+
+    List<CompletableFuture<String>> calls = new ArrayList<>();
+    for (int i = 0; i < 20; i++)
+      calls.add(scheduler.apply("[" + i + "]"));
+    for (int i = 0; i < 20; i++)
+      assertEquals("[" + i + "]", calls.get(i).get(5, TimeUnit.SECONDS));
+    assertTrue(peak.get() <= 2, "Ran " + peak.get() + " calls at once");
+  }
+
+  @Test
+  void shedsBeyondMaxQueued() throws Throwable {
+    CountDownLatch release = new CountDownLatch(1);
+    BindScheduler scheduler = scheduler(jsonArgs -> {
+      release.await();
+      return jsonArgs;
+    }, BindOptions.executor(executor).withMaxInFlight(1).withMaxQueued(1));
+
+    CompletableFuture<String> running = scheduler.apply("[1]");
+    CompletableFuture<String> queued = scheduler.apply("[2]");
+    CompletableFuture<String> shed = scheduler.apply("[3]");
+
+    ExecutionException e = assertThrows(ExecutionException.class, shed::get);
+    assertInstanceOf(BindRejectedException.class, e.getCause());
+
+    release.countDown();
+    assertEquals("[1]", running.get(5, TimeUnit.SECONDS));
+    assertEquals("[2]", queued.get(5, TimeUnit.SECONDS));
+  }
+
+  @Test
+  void skipsCancelledCalls() throws Throwable {
+    CountDownLatch release = new CountDownLatch(1);
+    AtomicInteger calls = new AtomicInteger();
+    BindScheduler scheduler = scheduler(jsonArgs -> {
+      calls.incrementAndGet();
+      release.await();
+      return jsonArgs;
+    }, BindOptions.executor(executor).withMaxInFlight(1));
+
+    CompletableFuture<String> running = scheduler.apply("[1]");
+    scheduler.apply("[2]").cancel(true);
+    CompletableFuture<String> next = scheduler.apply("[3]");
+
+    release.countDown();
+    assertEquals("[1]", running.get(5, TimeUnit.SECONDS));
+    assertEquals("[3]", next.get(5, TimeUnit.SECONDS));
+    assertEquals(2, calls.get());
+  }
+
+  @Test
+  void shedsBeyondRateLimit() {
+    BindScheduler scheduler =
+        scheduler(jsonArgs -> jsonArgs, BindOptions.virtual().withRateLimit(0.001, 1));
+    scheduler.apply("[1]");
+
+    ExecutionException e =
+        assertThrows(ExecutionException.class, () -> scheduler.apply("[2]").get());
+    assertInstanceOf(BindRejectedException.class, e.getCause());
+  }
+
+  @Test
+  void failsRejectedCalls() {
+    executor.shutdown();
+    BindScheduler scheduler = scheduler(jsonArgs -> jsonArgs, BindOptions.executor(executor));
+
+    ExecutionException e =
+        assertThrows(ExecutionException.class, () -> scheduler.apply("[]").get());
+    assertInstanceOf(RejectedExecutionException.class, e.getCause());
+  }
+
+  @Test
+  void maxQueuedRequiresMaxInFlight() {
+    assertThrows(IllegalArgumentException.class,
+        () -> scheduler(jsonArgs -> jsonArgs, BindOptions.virtual().withMaxQueued(1)));
+    assertDoesNotThrow(
+        () -> scheduler(jsonArgs -> jsonArgs, BindOptions.compute().withMaxQueued(1)));
+  }
+
+  @Test
+  void priorityRequiresCompute() {
+    assertThrows(IllegalArgumentException.class,
+        () -> BindOptions.virtual().withPriority(BindOptions.Priority.BULK));
+    assertThrows(IllegalArgumentException.class,
+        () -> BindOptions.inline().withPriority(BindOptions.Priority.INTERACTIVE));
+    assertDoesNotThrow(() -> BindOptions.compute().withPriority(BindOptions.Priority.BULK));
+  }
+
+  @Test
+  void inlineRejectsMaxQueued() {
+    assertThrows(IllegalArgumentException.class, () -> BindOptions.inline().withMaxQueued(1));
+  }
+
+  private static BindScheduler scheduler(WebViewBindCallback handler, BindOptions options) {
+    return new BindScheduler(handler, options,
+        new BindLimiter(options.getRateLimit(), options.getBurst()));
+  }
+}
@@ -0,0 +1,127 @@
+/**
+ * MIT License
+ * 
+ * Copyright (c) 2025 HiveVM
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.hivevm.webview;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+
+class CallRegistryTest {
+
+  private final CallRegistry calls = new CallRegistry();
+
+  @Test
+  void startsCalls() throws Throwable {
+    CompletableFuture<String> future = CompletableFuture.completedFuture("1");
+    assertSame(future, CallRegistry.start(jsonArgs -> future, "[]"));
+  }
+
+  @Test
+  void failsCallsWithoutFuture() {
+    CompletableFuture<String> future = CallRegistry.start(jsonArgs -> null, "[]");
+
+    ExecutionException e = assertThrows(ExecutionException.class, future::get);
+    assertInstanceOf(NullPointerException.class, e.getCause());
+  }
+
+  @Test
+  void failsCallsThatThrow() {
+    CompletableFuture<String> future = CallRegistry.start(jsonArgs -> {
+      throw new IllegalStateException("failed");
+    }, "[]");
+
+    ExecutionException e = assertThrows(ExecutionException.class, future::get);
+    assertEquals("failed", e.getCause().getMessage());
+  }
+
+  @Test
+  void cancelsCalls() {
+    CompletableFuture<String> first = new CompletableFuture<>();
+    CompletableFuture<String> second = new CompletableFuture<>();
+    CallRegistry.Call call = calls.track(1, first, 0);
+    calls.track(2, second, 0);
+
+    calls.cancel(1);
+    assertTrue(first.isCancelled());
+    assertTrue(call.isCancelled());
+    assertFalse(second.isDone());
+  }
+
+  @Test
+  void cancelsAllCalls() {
+    CompletableFuture<String> first = new CompletableFuture<>();
+    CompletableFuture<String> second = new CompletableFuture<>();
+    calls.track(1, first, 0);
+    calls.track(2, second, 0);
+
+    calls.cancel(0);
+    assertTrue(first.isCancelled());
+    assertTrue(second.isCancelled());
+  }
+
+  @Test
+  void cancelsCallsOnTimeout() throws Exception {
+    CompletableFuture<String> future = new CompletableFuture<>();
+    CallRegistry.Call call = calls.track(1, future, 10);
+
+    assertThrows(CancellationException.class, () -> future.get(5, TimeUnit.SECONDS));
+    assertTrue(call.isCancelled());
+  }
+
+  @Test
+  void marksCancelledBeforeCompletion() {
+    CompletableFuture<String> future = new CompletableFuture<>();
+    CallRegistry.Call call = calls.track(1, future, 0);
+    boolean[] cancelled = new boolean[1];
+    future.whenComplete((response, error) -> cancelled[0] = call.isCancelled());
+
+    calls.cancel(1);
+    assertTrue(cancelled[0]);
+  }
+
+  @Test
+  void tellsHandlerCancellationApart() {
+    CompletableFuture<String> future = new CompletableFuture<>();
+    CallRegistry.Call call = calls.track(1, future, 0);
+
+    future.cancel(true);
+    assertFalse(call.isCancelled());
+  }
+
+  @Test
+  void forgetsCompletedCalls() {
+    CompletableFuture<String> future = new CompletableFuture<>();
+    CallRegistry.Call call = calls.track(1, future, 0);
+    future.complete("1");
+
+    calls.cancel(1);
+    assertFalse(call.isCancelled());
+  }
+}
@@ -0,0 +1,90 @@
+/**
+ * MIT License
+ * 
+ * Copyright (c) 2025 HiveVM
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.hivevm.webview;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+class EvalBatchTest {
+
+  private final EvalBatch batch = new EvalBatch();
+
+  @Test
+  void schedulesOncePerBatch() {
+    assertTrue(batch.add("a();"));
+    assertFalse(batch.add("b();"));
+
+    batch.take(10, null);
+    assertTrue(batch.add("c();"));
+  }
+
+  @Test
+  void takesScriptsInOrder() {
+    batch.add("a();");
+    batch.add("b();");
+
+    String script = batch.take(10, null);
+    assertTrue(script.indexOf("try {\na();\n}") < script.indexOf("try {\nb();\n}"));
+    assertNull(batch.take(10, null));
+  }
+
+  @Test
+  void flushesInParts() {
+    batch.add("a();");
+    batch.add("b();");
+    batch.add("c();");
+
+    String first = batch.take(2, null);
+    assertTrue(first.contains("b();") && !first.contains("c();"));
+    assertTrue(batch.reschedule());
+    assertFalse(batch.reschedule());
+
+    assertTrue(batch.take(2, null).contains("c();"));
+    assertFalse(batch.reschedule());
+  }
+
+  @Test
+  void previewsLongScripts() {
+    String script = "x".repeat(200) + "\"";
+    batch.add(script);
+
+    String batched = batch.take(10, null);
+    assertTrue(batched.contains("try {\n" + script + "\n} catch (e) {"));
+    assertTrue(batched.contains("'An error occurred whilst evaluating script:', \""
+        + "x".repeat(120) + "...\", e);"));
+  }
+
+  @Test
+  void tagsScriptsInLeanMode() {
+    ScriptSources sources = new ScriptSources();
+    batch.add("a();");
+    batch.add("b();");
+
+    String batched = batch.take(10, sources);
+    assertEquals("try {\na();\n}" + ScriptSources.catchBlock(1) + "try {\nb();\n}"
+        + ScriptSources.catchBlock(2), batched);
+    assertFalse(batched.contains("An error occurred"));
+  }
+}
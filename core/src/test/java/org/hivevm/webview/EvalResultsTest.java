@@ -0,0 +1,75 @@
+/**
+ * MIT License
+ * 
+ * Copyright (c) 2025 HiveVM
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.hivevm.webview;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeoutException;
+import org.junit.jupiter.api.Test;
+
+class EvalResultsTest {
+
+  private final EvalResults results = new EvalResults();
+
+  @Test
+  void completesResults() throws Exception {
+    CompletableFuture<String> future = new CompletableFuture<>();
+    String script = results.add("1 + 1", future, 10_000);
+    assertTrue(script.contains("window.__webview_result(1, true,"));
+
+    results.complete("[1,true,{\"a\":2}]");
+    assertEquals("{\"a\":2}", future.get());
+    assertEquals(0, results.size());
+  }
+
+  @Test
+  void failsResults() {
+    CompletableFuture<String> future = new CompletableFuture<>();
+    results.add("boom()", future, 10_000);
+
+    results.complete("[1,false,\"ReferenceError: boom is not defined\"]");
+    ExecutionException e = assertThrows(ExecutionException.class, future::get);
+    assertInstanceOf(WebViewException.class, e.getCause());
+    assertEquals("ReferenceError: boom is not defined", e.getCause().getMessage());
+  }
+
+  @Test
+  void dropsTimedOutResults() throws Exception {
+    CompletableFuture<String> future = new CompletableFuture<>();
+    results.add("new Promise(() => {})", future, 10);
+
+    ExecutionException e = assertThrows(ExecutionException.class, future::get);
+    assertInstanceOf(TimeoutException.class, e.getCause());
+    // The result is dropped by a stage of the future, which may run just after get() returns.
+    for (int i = 0; i < 100 && results.size() > 0; i++)
+      Thread.sleep(10);
+    assertEquals(0, results.size());
+
+    // A late result is ignored.
+    results.complete("[1,true,1]");
+    assertTrue(future.isCompletedExceptionally());
+  }
+}
@@ -0,0 +1,179 @@
+/**
+ * MIT License
+ * 
+ * Copyright (c) 2025 HiveVM
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.hivevm.webview;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.SortedMap;
+import java.util.SortedSet;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import org.junit.jupiter.api.Test;
+
+class JsonCodecTest {
+
+  enum Status {
+    OPEN,
+    CLOSED
+  }
+
+  record Item(String name, long count, double price, boolean active, Status status) {}
+
+  record Node(String name, List<Node> children) {}
+
+  record Catalog(Map<String, Item> items, int[] ratings, List<String> tags) {}
+
+  record Sets(Set<String> tags, SortedSet<Long> ids, SortedMap<String, Integer> counts,
+      LinkedList<String> names) {}
+
+  record Amounts(BigDecimal total, BigInteger units, char grade) {}
+
+  public static class Bean {
+
+    public String name;
+    public int    size;
+  }
+
+  @Test
+  void primitives() throws Throwable {
+    assertEquals(42, (int) read(int.class, "42"));
+    assertEquals(0, (int) read(int.class, "null"));
+    assertNull(read(Integer.class, "null"));
+    assertEquals(-7L, (long) read(long.class, "-7"));
+    assertEquals(2.5, (double) read(double.class, "2.5"));
+    assertEquals(Boolean.TRUE, read(boolean.class, "true"));
+    assertEquals("a\"b", read(String.class, "\"a\\\"b\""));
+  }
+
+  @Test
+  void rangeChecks() throws Throwable {
+    assertEquals(-32768, (short) read(short.class, "-32768"));
+    assertEquals(127, (byte) read(byte.class, "127"));
+    assertThrows(ArithmeticException.class, () -> read(short.class, "32768"));
+    assertThrows(ArithmeticException.class, () -> read(Byte.class, "-129"));
+  }
+
+  @Test
+  void bigNumbers() throws Throwable {
+    Amounts amounts = new Amounts(new BigDecimal("12345678901234567890.125"),
+        new BigInteger("123456789012345678901234567890"), 'A');
+    assertEquals(amounts, roundTrip(amounts, Amounts.class));
+    assertEquals(new BigInteger("1000"), read(BigInteger.class, "1e3"));
+  }
+
+  @Test
+  void characters() throws Throwable {
+    assertEquals('x', (char) read(char.class, "\"x\""));
+    assertEquals('\0', (char) read(char.class, "null"));
+    assertNull(read(Character.class, "null"));
+    assertThrows(IllegalArgumentException.class, () -> read(char.class, "\"xy\""));
+  }
+
+  @Test
+  void records() throws Throwable {
+    Item item = new Item("pen \"blue\"", 3, 1.25, true, Status.CLOSED);
+    assertEquals(item, roundTrip(item, Item.class));
+    assertEquals(new Item("pen", 0, 0, false, null), read(Item.class, "{\"name\":\"pen\"}"));
+  }
+
+  @Test
+  void ignoresUnknownMembers() throws Throwable {
+    String json = "{\"extra\":{\"a\":[1]},\"name\":\"pen\",\"count\":1,\"status\":\"OPEN\"}";
+    assertEquals(new Item("pen", 1, 0, false, Status.OPEN), read(Item.class, json));
+  }
+
+  @Test
+  void recursiveRecords() throws Throwable {
+    Node tree = new Node("root", List.of(new Node("a", List.of()), new Node("b",
+        List.of(new Node("c", List.of())))));
+    assertEquals(tree, roundTrip(tree, Node.class));
+  }
+
+  @Test
+  void collections() throws Throwable {
+    Map<String, Item> items = new LinkedHashMap<>();
+    items.put("x", new Item("x", 1, 2, true, Status.OPEN));
+    Catalog catalog = new Catalog(items, new int[] { 5, 4 }, List.of("a", "b"));
+
+    Catalog copy = roundTrip(catalog, Catalog.class);
+    assertEquals(items, copy.items());
+    assertArrayEquals(new int[] { 5, 4 }, copy.ratings());
+    assertEquals(List.of("a", "b"), copy.tags());
+  }
+
+  @Test
+  void collectionTypes() throws Throwable {
+    Sets sets = read(Sets.class,
+        "{\"tags\":[\"b\",\"a\",\"b\"],\"ids\":[3,1,2],\"counts\":{\"b\":2,\"a\":1},"
+            + "\"names\":[\"x\"]}");
+    assertInstanceOf(LinkedHashSet.class, sets.tags());
+    assertEquals(List.of("b", "a"), List.copyOf(sets.tags()));
+    assertInstanceOf(TreeSet.class, sets.ids());
+    assertEquals(List.of(1L, 2L, 3L), List.copyOf(sets.ids()));
+    assertInstanceOf(TreeMap.class, sets.counts());
+    assertEquals("a", sets.counts().firstKey());
+    assertInstanceOf(LinkedList.class, sets.names());
+
+    assertInstanceOf(ArrayDeque.class, read(Deque.class, "[1]"));
+  }
+
+  @Test
+  void beans() throws Throwable {
+    Bean bean = new Bean();
+    bean.name = "box";
+    bean.size = 3;
+
+    Bean copy = roundTrip(bean, Bean.class);
+    assertEquals("box", copy.name);
+    assertEquals(3, copy.size);
+  }
+
+  @Test
+  void untypedValues() throws Throwable {
+    assertEquals(List.of("a", 1L, 2.5, true), read(Object.class, "[\"a\",1,2.5,true]"));
+    assertEquals(Map.of("k", List.of()), read(Object.class, "{\"k\":[]}"));
+  }
+
+  private static <T> T read(Class<T> type, String json) throws Throwable {
+    return JsonCodec.of(type).read(json, 0, json.length());
+  }
+
+  private static <T> T roundTrip(T value, Class<T> type) throws Throwable {
+    try (JsonWriter writer = new JsonWriter()) {
+      JsonCodec.of(type).write(value, writer);
+      return read(type, WebViewUtil.readString(writer.toSegment()));
+    }
+  }
+}
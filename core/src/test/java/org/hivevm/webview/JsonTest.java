@@ -0,0 +1,75 @@
+/**
+ * MIT License
+ * 
+ * Copyright (c) 2025 HiveVM
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.hivevm.webview;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+class JsonTest {
+
+  @Test
+  void skipWhitespace() {
+    assertEquals(4, Json.skipWhitespace(" \t\r\n1", 0));
+    assertEquals(0, Json.skipWhitespace("1 ", 0));
+    assertEquals(2, Json.skipWhitespace("  ", 0));
+  }
+
+  @Test
+  void skipScalarValues() {
+    String json = "[12.5e3,true,null]";
+    assertEquals(7, Json.skipValue(json, 1));
+    assertEquals(12, Json.skipValue(json, 8));
+    assertEquals(17, Json.skipValue(json, 13));
+  }
+
+  @Test
+  void skipNestedValues() {
+    String json = "[{\"a\":[1,{\"b\":\"]}\"}]},2]";
+    assertEquals(json.indexOf(",2"), Json.skipValue(json, 1));
+    assertEquals(json.length(), Json.skipValue(json, 0));
+  }
+
+  @Test
+  void skipStringWithEscapedQuote() {
+    String json = "\"a\\\"b\",1";
+    assertEquals(6, Json.skipString(json, 0));
+  }
+
+  @Test
+  void rejectUnterminated() {
+    assertThrows(IllegalArgumentException.class, () -> Json.skipString("\"abc", 0));
+    assertThrows(IllegalArgumentException.class, () -> Json.skipValue("[1,[2]", 0));
+  }
+
+  @Test
+  void decodeString() {
+    String json = "\"line\\nbreak \\\"quoted\\\" \\\\ \\u00e4\\t\\/\"";
+    assertEquals("line\nbreak \"quoted\" \\ ä\t/", Json.decodeString(json, 0, json.length()));
+  }
+
+  @Test
+  void decodeStringWithoutEscapes() {
+    String json = "[\"plain\",\"with\\\\escape\"]";
+    assertEquals("plain", Json.decodeString(json, 1, 8));
+  }
+}
@@ -0,0 +1,121 @@
+/**
+ * MIT License
+ * 
+ * Copyright (c) 2025 HiveVM
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.hivevm.webview;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class JsonWriterTest {
+
+  @Test
+  void objectsAndArrays() {
+    try (JsonWriter writer = new JsonWriter()) {
+      writer.beginObject().name("a").value(1).name("b").beginArray().value(true).nullValue()
+          .value("x").endArray().name("c").beginObject().endObject().endObject();
+      assertEquals("{\"a\":1,\"b\":[true,null,\"x\"],\"c\":{}}", text(writer));
+    }
+  }
+
+  @Test
+  void numbers() {
+    try (JsonWriter writer = new JsonWriter()) {
+      writer.beginArray().value(0).value(-42).value(Long.MAX_VALUE).value(Long.MIN_VALUE)
+          .value(1.5).value(Double.NaN).value(Double.POSITIVE_INFINITY).endArray();
+      assertEquals("[0,-42,9223372036854775807,-9223372036854775808,1.5,null,null]",
+          text(writer));
+    }
+  }
+
+  @Test
+  void escapedStrings() {
+    try (JsonWriter writer = new JsonWriter()) {
+      writer.value("\"quoted\" \\ \n\t\r\b\f \u0001");
+      assertEquals("\"\\\"quoted\\\" \\\\ \\n\\t\\r\\b\\f \\u0001\"", text(writer));
+    }
+  }
+
+  @Test
+  void utf8Strings() {
+    String value = "Grüße, 日本語, 👋";
+    try (JsonWriter writer = new JsonWriter()) {
+      writer.value(value);
+      assertEquals("\"" + value + "\"", text(writer));
+      assertEquals(value.getBytes(StandardCharsets.UTF_8).length + 2, writer.size());
+    }
+  }
+
+  @Test
+  void loneSurrogates() {
+    try (JsonWriter writer = new JsonWriter()) {
+      writer.value("a\ud83db\ude00");
+      assertEquals("\"a\\ud83db\\ude00\"", text(writer));
+    }
+  }
+
+  @Test
+  void growsBeyondCapacity() {
+    String value = "x".repeat(10_000) + "€";
+    try (JsonWriter writer = new JsonWriter(16)) {
+      writer.beginArray();
+      for (int i = 0; i < 10; i++)
+        writer.value(value);
+      writer.endArray();
+
+      String json = text(writer);
+      assertEquals(10, BindArgs.of(json).size());
+      assertEquals(value, BindArgs.of(json).getString(9));
+    }
+  }
+
+  @Test
+  void reset() {
+    try (JsonWriter writer = new JsonWriter()) {
+      writer.beginArray().value(1).endArray();
+      assertTrue(writer.reset().isEmpty());
+      writer.beginArray().value(2).endArray();
+      assertEquals("[2]", text(writer));
+    }
+  }
+
+  @Test
+  void rawValues() throws Throwable {
+    try (JsonWriter writer = new JsonWriter()) {
+      writer.beginArray().rawValue("{\"a\":1}").value((Object) List.of(1, "b")).endArray();
+      assertEquals("[{\"a\":1},[1,\"b\"]]", text(writer));
+    }
+  }
+
+  @Test
+  void calls() throws Throwable {
+    try (JsonWriter writer = new JsonWriter()) {
+      writer.beginCall("app.update").value("id").value((Object) new int[] { 1, 2 }).endCall();
+      assertEquals("app.update(\"id\",[1,2]);", text(writer));
+    }
+  }
+
+  private static String text(JsonWriter writer) {
+    return WebViewUtil.readString(writer.toSegment());
+  }
+}
@@ -0,0 +1,82 @@
+/**
+ * MIT License
+ * 
+ * Copyright (c) 2025 HiveVM
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.hivevm.webview;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.lang.foreign.Arena;
+import java.lang.foreign.MemorySegment;
+import java.lang.management.BufferPoolMXBean;
+import java.lang.management.ManagementFactory;
+import org.hivevm.webview.ffi.webview_bind$fn;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Checks that the native memory stays flat for a long-lived window answering binding calls. The
+ * native memory of arenas is accounted in the <code>direct</code> buffer pool.
+ */
+class NativeMemoryTest {
+
+  private static final int ROUND_TRIPS = 1_000_000;
+  private static final int BATCH       = 10_000;
+
+  /**
+   * Calls a bound function through the shared upcall stub, the way the native library does, so
+   * each call goes through the binding table, the handler and the native response.
+   */
+  @Test
+  void flatAfterRoundTrips() throws Exception {
+    try (WebViewFixture fixture = WebViewFixture.start(); Arena request = Arena.ofShared()) {
+      WebView webview = fixture.webview();
+      webview.bind("echo", jsonArgs -> BindArgs.of(jsonArgs).getRaw(0));
+
+      MemorySegment seq = request.allocateFrom("1");
+      MemorySegment req = request.allocateFrom("[\"Grüße 👋\"]");
+      MemorySegment slot = MemorySegment.ofAddress(webview.bindings.indexOf("echo"));
+      Runnable batch = () -> {
+        for (int i = 0; i < BATCH; i++)
+          webview_bind$fn.invoke(webview.binder, seq, req, slot);
+      };
+
+      fixture.call(() -> {
+        batch.run(); // Warm up
+        return null;
+      });
+
+      long before = directMemory();
+      for (int i = 0; i < ROUND_TRIPS; i += BATCH)
+        fixture.call(() -> {
+          batch.run();
+          return null;
+        });
+      long after = directMemory();
+
+      assertTrue(after - before < 64 * 1024,
+          "Native memory grew by " + (after - before) + " bytes");
+    }
+  }
+
+  private static long directMemory() {
+    return ManagementFactory.getPlatformMXBeans(BufferPoolMXBean.class).stream()
+        .filter(pool -> pool.getName().equals("direct"))
+        .mapToLong(BufferPoolMXBean::getMemoryUsed).sum();
+  }
+}
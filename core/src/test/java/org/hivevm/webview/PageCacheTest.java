@@ -0,0 +1,70 @@
+/**
+ * MIT License
+ * 
+ * Copyright (c) 2025 HiveVM
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.hivevm.webview;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+class PageCacheTest {
+
+  private final PageCache cache = new PageCache();
+
+  @Test
+  void installsOnFirstBinding() {
+    assertTrue(cache.add("get", new String[0]));
+    assertFalse(cache.add("list", new String[0]));
+  }
+
+  @Test
+  void acceptsDuplicateTags() {
+    cache.add("get", new String[] { "orders", "orders" });
+    assertEquals("window.webview.cache.invalidateTag(\"orders\");", cache.invalidateTag("orders"));
+  }
+
+  @Test
+  void createsScripts() {
+    assertEquals("window.webview.cache.wrap(\"get\", []);",
+        cache.createScript("get", new String[0]));
+    assertEquals("window.webview.cache.wrap(\"get\", [\"a\", \"b\\\"\"]);",
+        cache.createScript("get", new String[] { "a", "b\"" }));
+  }
+
+  @Test
+  void invalidatesCachedBindings() {
+    cache.add("get", new String[] { "orders" });
+
+    assertEquals("window.webview.cache.invalidate(\"get\");", cache.invalidate("get", null));
+    assertEquals("window.webview.cache.invalidate(\"get\", \"[1,\\\"a\\\"]\");",
+        cache.invalidate("get", "[1,\"a\"]"));
+  }
+
+  @Test
+  void skipsUnknownBindings() {
+    cache.add("get", new String[] { "orders" });
+
+    assertNull(cache.invalidate("list", null));
+    assertNull(cache.invalidateTag("items"));
+  }
+}
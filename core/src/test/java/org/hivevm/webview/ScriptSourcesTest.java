@@ -0,0 +1,97 @@
+/**
+ * MIT License
+ * 
+ * Copyright (c) 2025 HiveVM
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.hivevm.webview;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+class ScriptSourcesTest {
+
+  @Test
+  void wrapsScripts() {
+    ScriptSources sources = new ScriptSources();
+
+    assertEquals("try {\na();\n}" + ScriptSources.catchBlock(1), sources.wrap("a();"));
+    assertTrue(sources.wrapInit("b();", false).contains("window.top == window.self || false"));
+  }
+
+  @Test
+  void reportsSources() {
+    ScriptSources sources = new ScriptSources();
+    int id = sources.add("a();");
+
+    try (LogCapture log = new LogCapture()) {
+      sources.report("[" + id + ",\"ReferenceError: a is not defined\"]");
+      assertEquals(id, log.last(0));
+      assertEquals("ReferenceError: a is not defined", log.last(1));
+      assertEquals("a();", log.last(2));
+    }
+  }
+
+  @Test
+  void evictsOldSources() {
+    ScriptSources sources = new ScriptSources();
+    int first = sources.add("first();");
+    int last = first;
+    for (int i = 0; i < 256; i++)
+      last = sources.add("script" + i + "();");
+
+    try (LogCapture log = new LogCapture()) {
+      sources.report("[" + first + ",\"Error\"]");
+      assertEquals("(no longer available)", log.last(2));
+
+      sources.report("[" + last + ",\"Error\"]");
+      assertEquals("script255();", log.last(2));
+    }
+  }
+
+  @Test
+  void keepsInitScripts() {
+    ScriptSources sources = new ScriptSources();
+    sources.wrapInit("init();", true);
+    for (int i = 0; i < 300; i++)
+      sources.add("script" + i + "();");
+
+    try (LogCapture log = new LogCapture()) {
+      sources.report("[1,\"Error\"]");
+      assertEquals("init();", log.last(2));
+    }
+  }
+
+  @Test
+  void wrapsAroundIds() {
+    ScriptSources sources = new ScriptSources(Integer.MAX_VALUE - 1);
+    int last = sources.add("last();");
+    int wrapped = sources.add("wrapped();");
+    assertEquals(Integer.MAX_VALUE, last);
+    assertEquals(Integer.MIN_VALUE, wrapped);
+
+    try (LogCapture log = new LogCapture()) {
+      sources.report("[" + last + ",\"Error\"]");
+      assertEquals("last();", log.last(2));
+
+      sources.report("[" + wrapped + ",\"Error\"]");
+      assertEquals("wrapped();", log.last(2));
+    }
+  }
+}
@@ -0,0 +1,99 @@
+/**
+ * MIT License
+ * 
+ * Copyright (c) 2025 HiveVM
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.hivevm.webview;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+class ServiceRouterTest {
+
+  public static class Service {
+
+    public String echo(String jsonArgs) {
+      return jsonArgs;
+    }
+
+    public String version() {
+      return "\"1.0\"";
+    }
+
+    public String find() {
+      return "\"all\"";
+    }
+
+    public String find(String jsonArgs) {
+      return "\"one\"";
+    }
+
+    public int count(String jsonArgs) {
+      return 0;
+    }
+
+    public String add(int value) {
+      return null;
+    }
+
+    public String join(String first, String second) {
+      return null;
+    }
+
+    public static String create(String jsonArgs) {
+      return null;
+    }
+  }
+
+  private final ServiceRouter router = ServiceRouter.of(new Service());
+
+  @Test
+  void passesArguments() throws Throwable {
+    assertEquals("[1,\"a\",{\"b\":2}]", router.apply("[\"echo\",1,\"a\",{\"b\":2}]"));
+    assertEquals("[]", router.apply("[\"echo\"]"));
+  }
+
+  @Test
+  void callsMethodsWithoutParameters() throws Throwable {
+    assertEquals("\"1.0\"", router.apply("[\"version\",1]"));
+  }
+
+  @Test
+  void prefersMethodsWithArguments() throws Throwable {
+    assertEquals("\"one\"", router.apply("[\"find\"]"));
+  }
+
+  @Test
+  void skipsUnsupportedSignatures() {
+    assertThrows(NoSuchMethodException.class, () -> router.apply("[\"count\"]"));
+    assertThrows(NoSuchMethodException.class, () -> router.apply("[\"add\",1]"));
+    assertThrows(NoSuchMethodException.class, () -> router.apply("[\"join\",\"a\",\"b\"]"));
+    assertThrows(NoSuchMethodException.class, () -> router.apply("[\"create\"]"));
+    assertThrows(NoSuchMethodException.class, () -> router.apply("[\"hashCode\"]"));
+  }
+
+  @Test
+  void rejectsUnknownMethods() {
+    NoSuchMethodException e =
+        assertThrows(NoSuchMethodException.class, () -> router.apply("[\"missing\"]"));
+    assertEquals("missing", e.getMessage());
+    assertThrows(NoSuchMethodException.class, () -> router.apply("[]"));
+  }
+}
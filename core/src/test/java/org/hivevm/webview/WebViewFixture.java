@@ -0,0 +1,139 @@
+/**
+ * MIT License
+ * 
+ * Copyright (c) 2025 HiveVM
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.hivevm.webview;
+
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+import java.lang.foreign.MemorySegment;
+import java.time.Duration;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Runs a {@link WebView} with its event loop on a thread of its own, for the tests that go through
+ * the native library. The tests are skipped where the window can't be opened, e.g. without a
+ * display.
+ */
+final class WebViewFixture implements AutoCloseable {
+
+  private static final long TIMEOUT = 10;
+
+  private final WebView     webview;
+  private final Thread      loop;
+
+  private WebViewFixture(WebView webview, Thread loop) {
+    this.webview = webview;
+    this.loop = loop;
+  }
+
+  /**
+   * Opens the window and waits until its page evaluates scripts.
+   */
+  static WebViewFixture start() throws Exception {
+    String os = System.getProperty("os.name").toLowerCase();
+    assumeTrue(!os.contains("linux") || System.getenv("DISPLAY") != null
+        || System.getenv("WAYLAND_DISPLAY") != null, "No display to open the webview on");
+
+    CompletableFuture<WebView> created = new CompletableFuture<>();
+    Thread loop = new Thread(() -> {
+      WebView webview;
+      try {
+        webview = new WebView(false);
+      } catch (Throwable e) {
+        created.completeExceptionally(e);
+        return;
+      }
+
+      boolean opened = webview.handle != null && !webview.handle.equals(MemorySegment.NULL);
+      created.complete(opened ? webview : null);
+      if (opened)
+        webview.run();
+    }, "WebView Test");
+    loop.setDaemon(true);
+    loop.start();
+
+    WebView webview;
+    try {
+      webview = created.get(TIMEOUT, TimeUnit.SECONDS);
+    } catch (Exception e) {
+      webview = null;
+    }
+    assumeTrue(webview != null, "The native webview is not available");
+
+    WebViewFixture fixture = new WebViewFixture(webview, loop);
+    fixture.awaitPage();
+    return fixture;
+  }
+
+  WebView webview() {
+    return webview;
+  }
+
+  /**
+   * Runs the action on the event thread and waits for its result.
+   */
+  <T> T call(Callable<T> action) throws Exception {
+    CompletableFuture<T> result = new CompletableFuture<>();
+    webview.dispatch(() -> {
+      try {
+        result.complete(action.call());
+      } catch (Throwable e) {
+        result.completeExceptionally(e);
+      }
+    });
+    return result.get(TIMEOUT, TimeUnit.SECONDS);
+  }
+
+  /**
+   * Evaluates the expression in the page and waits for its result as JSON.
+   */
+  String eval(String expression) throws Exception {
+    return webview.evalAndGet(expression, Duration.ofSeconds(TIMEOUT)).get();
+  }
+
+  @Override
+  public void close() {
+    webview.close();
+    try {
+      loop.join(TimeUnit.SECONDS.toMillis(TIMEOUT));
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  /**
+   * Waits until the initial page is loaded, since scripts evaluated before are lost.
+   */
+  private void awaitPage() throws Exception {
+    for (int i = 0; i < TIMEOUT * 2; i++) {
+      try {
+        webview.evalAndGet("document.readyState", Duration.ofMillis(500)).get();
+        return;
+      } catch (Exception e) {
+        if (!(e.getCause() instanceof TimeoutException))
+          throw e;
+      }
+    }
+    throw new TimeoutException("The page didn't load");
+  }
+}
@@ -0,0 +1,132 @@
+/**
+ * MIT License
+ * 
+ * Copyright (c) 2025 HiveVM
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.hivevm.webview;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Calls bound functions from the page, through the native library.
+ */
+class WebViewTest {
+
+  private static WebViewFixture fixture;
+
+  @BeforeAll
+  static void start() throws Exception {
+    fixture = WebViewFixture.start();
+  }
+
+  @AfterAll
+  static void close() {
+    if (fixture != null)
+      fixture.close();
+  }
+
+  @Test
+  void rejectsAsyncHandlerWithoutFuture() throws Exception {
+    fixture.webview().bindAsync("noFuture", jsonArgs -> null);
+
+    assertEquals("\"java.lang.NullPointerException\"",
+        fixture.eval("noFuture().then(() => 'resolved', e => e.type)"));
+  }
+
+  @Test
+  void rejectsCallsCancelledByHandler() throws Exception {
+    fixture.webview().bindAsync("cancelled", jsonArgs -> {
+      CompletableFuture<String> future = new CompletableFuture<>();
+      future.cancel(true);
+      return future;
+    });
+
+    assertEquals("\"java.util.concurrent.CancellationException\"",
+        fixture.eval("cancelled().then(() => 'resolved', e => e.type)"));
+  }
+
+  @Test
+  void callsInOrderWithBatchedScripts() throws Exception {
+    WebView webview = fixture.webview();
+    webview.setEvalBatching(Duration.ofMillis(5));
+    try {
+      List<Integer> args = new ArrayList<>(List.of(2));
+      webview.eval("window.order = [1];");
+      webview.call("order.push", args);
+      args.add(3); // Serialized by call(), so the page never sees it.
+      webview.eval("order.push(4);");
+
+      assertEquals("[1,[2],4]", fixture.eval("order"));
+    } finally {
+      webview.setEvalBatching(null);
+    }
+  }
+
+  @Test
+  void failsResultsThatAreNotJson() {
+    CompletableFuture<String> future = fixture.webview().evalAndGet("1n", Duration.ofSeconds(10));
+
+    ExecutionException e =
+        assertThrows(ExecutionException.class, () -> future.get(10, TimeUnit.SECONDS));
+    assertInstanceOf(WebViewException.class, e.getCause());
+  }
+
+  @Test
+  void callsServices() throws Exception {
+    fixture.webview().bindService("api.orders", new ServiceRouterTest.Service());
+
+    assertEquals("\"1.0\"", fixture.eval("api.orders.version()"));
+    assertEquals("[1]", fixture.eval("api.orders.echo(1)"));
+  }
+
+  @Test
+  void servicesAreNotThenable() throws Exception {
+    fixture.webview().bindService("api.items", new ServiceRouterTest.Service());
+
+    // Resolving a thenable would call then() on the binding, which never settles.
+    assertEquals("true",
+        fixture.eval("Promise.resolve(api.items).then(items => items === api.items)"));
+  }
+
+  @Test
+  void isolatesErrorsOfBatchedScripts() throws Exception {
+    WebView webview = fixture.webview();
+    webview.setEvalBatching(Duration.ZERO);
+    try {
+      webview.eval("window.batched = [];");
+      webview.eval("throw new Error('failed');");
+      webview.eval("batched.push(1);");
+
+      assertEquals("[1]", fixture.eval("batched"));
+    } finally {
+      webview.setEvalBatching(null);
+    }
+  }
+}
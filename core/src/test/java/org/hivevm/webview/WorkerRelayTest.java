@@ -0,0 +1,74 @@
+/**
+ * MIT License
+ * 
+ * Copyright (c) 2025 HiveVM
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.hivevm.webview;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import org.junit.jupiter.api.Test;
+
+class WorkerRelayTest {
+
+  private final CallRegistry calls   = new CallRegistry();
+  private final List<String> replies = new CopyOnWriteArrayList<>();
+  private final WorkerRelay  relay   = new WorkerRelay(calls, new BindErrors(), replies::add);
+
+  @Test
+  void repliesPerCall() {
+    CompletableFuture<String> slow = new CompletableFuture<>();
+    calls.register("slow", jsonArgs -> slow);
+    calls.register("fast", jsonArgs -> CompletableFuture.completedFuture(jsonArgs));
+
+    relay.relay("[[[1,\"slow\",[]],[2,\"fast\",[\"a\"]]]]");
+    assertEquals(List.of("window.__webview_relayed && window.__webview_relayed(2,true,[\"a\"]);"),
+        replies);
+
+    slow.complete("\"b\"");
+    assertEquals("window.__webview_relayed && window.__webview_relayed(1,true,\"b\");",
+        replies.get(1));
+  }
+
+  @Test
+  void failsUnknownFunctions() {
+    relay.relay("[[[1,\"missing\",[]]]]");
+
+    assertEquals(1, replies.size());
+    assertTrue(replies.get(0).contains("(1,false,{\"code\":\"WEBVIEW_NOT_FOUND\""));
+  }
+
+  @Test
+  void failsCallsWithoutFuture() {
+    calls.register("noFuture", jsonArgs -> null);
+
+    relay.relay("[[[1,\"noFuture\",null]]]");
+    assertTrue(replies.get(0).contains("(1,false,{\"code\":\"WEBVIEW_ERROR\""));
+    assertTrue(replies.get(0).contains("java.lang.NullPointerException"));
+  }
+
+  @Test
+  void rejectsMissingBatch() {
+    assertThrows(WebViewException.class, () -> relay.relay("[]"));
+  }
+}
@@ -0,0 +1,7 @@
+module org.hivevm.webview.processor {
+
+  requires java.compiler;
+
+  provides javax.annotation.processing.Processor
+      with org.hivevm.webview.processor.WebViewExportProcessor;
+}
@@ -0,0 +1,355 @@
+/**
+ * MIT License
+ * 
+ * Copyright (c) 2025 HiveVM
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.hivevm.webview.processor;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.AnnotationValue;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.ArrayType;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.tools.Diagnostic;
+import javax.tools.FileObject;
+import javax.tools.StandardLocation;
+
+/**
+ * The {@link WebViewExportProcessor} generates a dispatcher for every interface annotated with
+ * <code>org.hivevm.webview.WebViewExport</code>. The dispatcher binds a single function, which
+ * switches on the numeric id of the called method, so no reflection or lookup by name happens per
+ * call. Next to it, the JavaScript client and the TypeScript declarations are written to
+ * <code>META-INF/webview/&lt;namespace&gt;.js</code> and <code>.d.ts</code>.
+ */
+@SupportedAnnotationTypes(WebViewExportProcessor.ANNOTATION)
+public class WebViewExportProcessor extends AbstractProcessor {
+
+  static final String ANNOTATION = "org.hivevm.webview.WebViewExport";
+
+  @Override
+  public SourceVersion getSupportedSourceVersion() {
+    return SourceVersion.latestSupported();
+  }
+
+  @Override
+  public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment round) {
+    for (TypeElement annotation : annotations) {
+      for (Element element : round.getElementsAnnotatedWith(annotation)) {
+        if (element.getKind() != ElementKind.INTERFACE) {
+          error(element, "@WebViewExport is only supported on interfaces");
+          continue;
+        }
+
+        try {
+          generate((TypeElement) element);
+        } catch (IOException e) {
+          error(element, "Unable to generate the dispatcher: " + e.getMessage());
+        }
+      }
+    }
+    return true;
+  }
+
+  private void generate(TypeElement type) throws IOException {
+    List<ExecutableElement> methods = new ArrayList<>();
+    Set<String> names = new HashSet<>();
+    for (ExecutableElement method : ElementFilter.methodsIn(type.getEnclosedElements())) {
+      if (!method.getModifiers().contains(Modifier.ABSTRACT))
+        continue;
+      if (!names.add(method.getSimpleName().toString()))
+        error(method, "Exported methods can not be overloaded");
+      methods.add(method);
+    }
+
+    String pkg = processingEnv.getElementUtils().getPackageOf(type).getQualifiedName().toString();
+    String name = type.getSimpleName() + "Dispatcher";
+    String namespace = getNamespace(type);
+    String binding = "__export_" + namespace.replace('.', '_');
+    String script = createScript(namespace, binding, methods);
+
+    try (Writer writer = processingEnv.getFiler()
+        .createSourceFile(pkg.isEmpty() ? name : pkg + "." + name, type).openWriter()) {
+      writer.write(createDispatcher(type, pkg, name, namespace, binding, script, methods));
+    }
+
+    FileObject js = processingEnv.getFiler().createResource(StandardLocation.CLASS_OUTPUT, "",
+        "META-INF/webview/" + namespace + ".js", type);
+    try (Writer writer = js.openWriter()) {
+      writer.write(script);
+    }
+
+    FileObject ts = processingEnv.getFiler().createResource(StandardLocation.CLASS_OUTPUT, "",
+        "META-INF/webview/" + namespace + ".d.ts", type);
+    try (Writer writer = ts.openWriter()) {
+      writer.write(createDeclarations(namespace, methods));
+    }
+  }
+
+  /**
+   * Gets the namespace from the annotation, defaulting to the simple name of the interface.
+   */
+  private String getNamespace(TypeElement type) {
+    for (AnnotationMirror mirror : type.getAnnotationMirrors()) {
+      if (!((TypeElement) mirror.getAnnotationType().asElement()).getQualifiedName()
+          .contentEquals(ANNOTATION))
+        continue;
+
+      for (var entry : mirror.getElementValues().entrySet()) {
+        AnnotationValue value = entry.getValue();
+        if (entry.getKey().getSimpleName().contentEquals("value")
+            && !value.getValue().toString().isEmpty())
+          return value.getValue().toString();
+      }
+    }
+    return type.getSimpleName().toString();
+  }
+
+  private String createDispatcher(TypeElement type, String pkg, String name, String namespace,
+      String binding, String script, List<ExecutableElement> methods) {
+    String service = type.getQualifiedName().toString();
+
+    StringBuilder builder = new StringBuilder();
+    builder.append("// Generated by ").append(getClass().getName()).append("\n\n");
+    if (!pkg.isEmpty())
+      builder.append("package ").append(pkg).append(";\n\n");
+
+    builder.append("import org.hivevm.webview.BindArgs;\n");
+    builder.append("import org.hivevm.webview.JsonWriter;\n");
+    builder.append("import org.hivevm.webview.WebView;\n");
+    builder.append("import org.hivevm.webview.WebViewWriterBindCallback;\n\n");
+
+    builder.append("/**\n * Dispatches the calls of {@link ").append(service).append("}.\n */\n");
+    builder.append("public final class ").append(name).append(" {\n\n");
+    builder.append("  public static final String NAMESPACE = ").append(literal(namespace))
+        .append(";\n");
+    builder.append("  public static final String BINDING   = ").append(literal(binding))
+        .append(";\n");
+    builder.append("  public static final String SCRIPT    = ").append(literal(script))
+        .append(";\n\n");
+
+    // Generic parameters are decoded with their full type, which is taken from the interface.
+    boolean generic = false;
+    for (int id = 0; id < methods.size(); id++) {
+      ExecutableElement method = methods.get(id);
+      List<? extends VariableElement> parameters = method.getParameters();
+      for (int i = 0; i < parameters.size(); i++) {
+        if (!isGeneric(parameters.get(i).asType()))
+          continue;
+
+        List<String> erasures = new ArrayList<>();
+        for (VariableElement parameter : parameters)
+          erasures.add(processingEnv.getTypeUtils().erasure(parameter.asType()) + ".class");
+        builder.append("  private static final java.lang.reflect.Type ").append(typeField(id, i))
+            .append(" =\n      type(").append(literal(method.getSimpleName().toString()))
+            .append(", ").append(i).append(", ").append(String.join(", ", erasures))
+            .append(");\n");
+        generic = true;
+      }
+    }
+    if (generic) {
+      builder.append("\n  private static java.lang.reflect.Type type(String method, int index,\n");
+      builder.append("      Class<?>... parameters) {\n");
+      builder.append("    try {\n");
+      builder.append("      return ").append(service)
+          .append(".class.getMethod(method, parameters).getGenericParameterTypes()[index];\n");
+      builder.append("    } catch (NoSuchMethodException e) {\n");
+      builder.append("      throw new IllegalStateException(e);\n");
+      builder.append("    }\n");
+      builder.append("  }\n\n");
+    }
+
+    builder.append("  private ").append(name).append("() {}\n\n");
+
+    builder.append("  /**\n   * Binds the service and installs its JavaScript client.\n   */\n");
+    builder.append("  public static void register(WebView webview, ").append(service)
+        .append(" service) {\n");
+    builder.append("    WebViewWriterBindCallback callback =\n");
+    builder.append("        (json, response) -> dispatch(service, BindArgs.of(json), response);\n");
+    builder.append("    webview.bind(BINDING, callback);\n");
+    builder.append("    webview.setInitScript(SCRIPT);\n");
+    builder.append("    webview.eval(SCRIPT);\n");
+    builder.append("  }\n\n");
+
+    builder.append("  @SuppressWarnings(\"unchecked\")\n");
+    builder.append("  static void dispatch(").append(service)
+        .append(" service, BindArgs args, JsonWriter response) throws Throwable {\n");
+    builder.append("    switch (args.getInt(0)) {\n");
+    for (int id = 0; id < methods.size(); id++) {
+      ExecutableElement method = methods.get(id);
+
+      List<String> arguments = new ArrayList<>();
+      List<? extends VariableElement> parameters = method.getParameters();
+      for (int i = 0; i < parameters.size(); i++)
+        arguments.add(readArgument(parameters.get(i), i + 1, typeField(id, i)));
+      String call = "service." + method.getSimpleName() + "(" + String.join(", ", arguments) + ")";
+
+      builder.append("      case ").append(id).append(" -> ");
+      TypeMirror result = method.getReturnType();
+      if (result.getKind() == TypeKind.VOID)
+        builder.append("{\n        ").append(call).append(";\n        response.nullValue();\n      }\n");
+      else if (result.getKind().isPrimitive() && result.getKind() != TypeKind.CHAR)
+        builder.append("response.value(").append(call).append(");\n");
+      else if (isString(result))
+        builder.append("response.value((String) ").append(call).append(");\n");
+      else
+        builder.append("response.value((Object) ").append(call).append(");\n");
+    }
+    builder.append("      default -> throw new IllegalArgumentException(\"Unknown method: \" + args.getRaw(0));\n");
+    builder.append("    }\n");
+    builder.append("  }\n");
+    builder.append("}\n");
+    return builder.toString();
+  }
+
+  /**
+   * Creates the expression decoding a parameter from the arguments of the call. Generic parameters
+   * are decoded with their full type, held by the given field.
+   */
+  private String readArgument(VariableElement parameter, int index, String typeField) {
+    TypeMirror type = parameter.asType();
+    return switch (type.getKind()) {
+      case BOOLEAN -> "args.getBoolean(" + index + ")";
+      case BYTE -> "(byte) args.getInt(" + index + ")";
+      case SHORT -> "(short) args.getInt(" + index + ")";
+      case INT -> "args.getInt(" + index + ")";
+      case LONG -> "args.getLong(" + index + ")";
+      case FLOAT -> "(float) args.getDouble(" + index + ")";
+      case DOUBLE -> "args.getDouble(" + index + ")";
+      case DECLARED, ARRAY -> isString(type) ? "args.getString(" + index + ")"
+          : isGeneric(type) ? "(" + type + ") args.get(" + index + ", " + typeField + ")"
+          : "(" + type + ") args.get(" + index + ", "
+              + processingEnv.getTypeUtils().erasure(type) + ".class)";
+      default -> {
+        error(parameter, "Unsupported parameter type: " + type);
+        yield "null";
+      }
+    };
+  }
+
+  /**
+   * Returns <code>true</code> if the type has type arguments, which its class doesn't carry.
+   */
+  private boolean isGeneric(TypeMirror type) {
+    return !processingEnv.getTypeUtils().erasure(type).toString().equals(type.toString());
+  }
+
+  private static String typeField(int method, int parameter) {
+    return "TYPE_" + method + "_" + parameter;
+  }
+
+  private String createScript(String namespace, String binding,
+      List<ExecutableElement> methods) {
+    StringBuilder builder = new StringBuilder();
+    builder.append("(() => {\n");
+    builder.append("  const path = ").append(literal(namespace)).append(".split('.');\n");
+    builder.append("  const name = path.pop();\n");
+    builder.append("  const parent = path.reduce((o, k) => o[k] = o[k] || {}, window);\n");
+    builder.append("  const call = (id, args) => window[").append(literal(binding))
+        .append("](id, ...args);\n");
+    builder.append("  parent[name] = {\n");
+    for (int id = 0; id < methods.size(); id++)
+      builder.append("    ").append(methods.get(id).getSimpleName()).append(": (...args) => call(")
+          .append(id).append(", args),\n");
+    builder.append("  };\n");
+    builder.append("})();\n");
+    return builder.toString();
+  }
+
+  private String createDeclarations(String namespace, List<ExecutableElement> methods) {
+    StringBuilder builder = new StringBuilder();
+    builder.append("declare namespace ").append(namespace).append(" {\n");
+    for (ExecutableElement method : methods) {
+      List<String> parameters = new ArrayList<>();
+      for (VariableElement parameter : method.getParameters())
+        parameters.add(parameter.getSimpleName() + ": " + typeScript(parameter.asType()));
+
+      builder.append("  function ").append(method.getSimpleName()).append("(")
+          .append(String.join(", ", parameters)).append("): Promise<")
+          .append(typeScript(method.getReturnType())).append(">;\n");
+    }
+    builder.append("}\n");
+    return builder.toString();
+  }
+
+  private String typeScript(TypeMirror type) {
+    return switch (type.getKind()) {
+      case VOID -> "void";
+      case BOOLEAN -> "boolean";
+      case BYTE, SHORT, INT, LONG, FLOAT, DOUBLE -> "number";
+      case ARRAY -> typeScript(((ArrayType) type).getComponentType()) + "[]";
+      case DECLARED -> {
+        String name = ((TypeElement) ((DeclaredType) type).asElement()).getQualifiedName()
+            .toString();
+        yield switch (name) {
+          case "java.lang.String" -> "string";
+          case "java.lang.Boolean" -> "boolean";
+          case "java.lang.Byte", "java.lang.Short", "java.lang.Integer", "java.lang.Long",
+              "java.lang.Float", "java.lang.Double" -> "number";
+          default -> "any";
+        };
+      }
+      default -> "any";
+    };
+  }
+
+  private boolean isString(TypeMirror type) {
+    return type.getKind() == TypeKind.DECLARED
+        && ((TypeElement) ((DeclaredType) type).asElement()).getQualifiedName()
+            .contentEquals("java.lang.String");
+  }
+
+  /**
+   * Encodes the text as Java string literal.
+   */
+  private static String literal(String text) {
+    StringBuilder builder = new StringBuilder("\"");
+    for (char ch : text.toCharArray()) {
+      switch (ch) {
+        case '"' -> builder.append("\\\"");
+        case '\\' -> builder.append("\\\\");
+        case '\n' -> builder.append("\\n");
+        case '\r' -> builder.append("\\r");
+        case '\t' -> builder.append("\\t");
+        default -> builder.append(ch);
+      }
+    }
+    return builder.append('"').toString();
+  }
+
+  private void error(Element element, String message) {
+    processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, message, element);
+  }
+}
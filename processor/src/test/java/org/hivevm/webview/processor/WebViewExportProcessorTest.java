@@ -0,0 +1,180 @@
+/**
+ * MIT License
+ * 
+ * Copyright (c) 2025 HiveVM
+ * 
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and
+ * associated documentation files (the "Software"), to deal in the Software without restriction,
+ * including without limitation the rights to use, copy, modify, merge, publish, distribute,
+ * sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ * 
+ * The above copyright notice and this permission notice shall be included in all copies or
+ * substantial portions of the Software.
+ * 
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT
+ * NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM,
+ * DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package org.hivevm.webview.processor;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Collectors;
+import javax.tools.Diagnostic;
+import javax.tools.DiagnosticCollector;
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.SimpleJavaFileObject;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.StandardLocation;
+import javax.tools.ToolProvider;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Compiles exported interfaces with the processor, along with the dispatchers it generates.
+ */
+class WebViewExportProcessorTest {
+
+  @Test
+  void generatesDispatcher() throws IOException {
+    Compilation compilation = compile("test.Orders", """
+        package test;
+
+        import java.util.List;
+        import java.util.Map;
+        import org.hivevm.webview.WebViewExport;
+
+        @WebViewExport("app.orders")
+        public interface Orders {
+
+          String find(long id);
+
+          List<String> tags(Map<String, Integer> counts);
+
+          void clear();
+
+          private String helper() {
+            return "";
+          }
+        }
+        """);
+    assertTrue(compilation.success(), compilation.errors());
+
+    String dispatcher = compilation.read("test/OrdersDispatcher.java");
+    assertTrue(dispatcher.contains("public static final String NAMESPACE = \"app.orders\";"));
+    assertTrue(dispatcher.contains("case 0 -> response.value((String) service.find("
+        + "args.getLong(1)));"));
+    assertTrue(dispatcher.contains("TYPE_1_0"));
+    assertFalse(dispatcher.contains("helper"));
+    assertTrue(Files.exists(compilation.classes().resolve("test/OrdersDispatcher.class")));
+
+    String script = compilation.read("META-INF/webview/app.orders.js");
+    assertTrue(script.contains("find: (...args) => call(0, args),"));
+    assertTrue(script.contains("clear: (...args) => call(2, args),"));
+
+    String declarations = compilation.read("META-INF/webview/app.orders.d.ts");
+    assertTrue(declarations.contains("function find(id: number): Promise<string>;"));
+    assertTrue(declarations.contains("function clear(): Promise<void>;"));
+  }
+
+  @Test
+  void rejectsClasses() throws IOException {
+    Compilation compilation = compile("test.Orders", """
+        package test;
+
+        @org.hivevm.webview.WebViewExport
+        public class Orders {
+
+          public String find(long id) {
+            return null;
+          }
+        }
+        """);
+    assertFalse(compilation.success());
+    assertTrue(compilation.errors().contains("@WebViewExport is only supported on interfaces"),
+        compilation.errors());
+  }
+
+  @Test
+  void rejectsOverloadedMethods() throws IOException {
+    Compilation compilation = compile("test.Orders", """
+        package test;
+
+        @org.hivevm.webview.WebViewExport
+        public interface Orders {
+
+          String find(long id);
+
+          String find(String name);
+        }
+        """);
+    assertFalse(compilation.success());
+    assertTrue(compilation.errors().contains("Exported methods can not be overloaded"),
+        compilation.errors());
+  }
+
+  @Test
+  void rejectsUnsupportedParameters() throws IOException {
+    Compilation compilation = compile("test.Grades", """
+        package test;
+
+        @org.hivevm.webview.WebViewExport
+        public interface Grades {
+
+          void grade(char grade);
+        }
+        """);
+    assertFalse(compilation.success());
+    assertTrue(compilation.errors().contains("Unsupported parameter type: char"),
+        compilation.errors());
+  }
+
+  private record Compilation(boolean success, String errors, Path sources, Path classes) {
+
+    String read(String path) throws IOException {
+      Path file = (path.endsWith(".java") ? sources : classes).resolve(path);
+      return Files.readString(file);
+    }
+  }
+
+  private static Compilation compile(String name, String source) throws IOException {
+    Path sources = Files.createTempDirectory("webview-sources");
+    Path classes = Files.createTempDirectory("webview-classes");
+
+    JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+    DiagnosticCollector<JavaFileObject> diagnostics = new DiagnosticCollector<>();
+    try (StandardJavaFileManager files = compiler.getStandardFileManager(null, null, null)) {
+      files.setLocationFromPaths(StandardLocation.SOURCE_OUTPUT, List.of(sources));
+      files.setLocationFromPaths(StandardLocation.CLASS_OUTPUT, List.of(classes));
+
+      JavaFileObject file = new SimpleJavaFileObject(
+          URI.create("string:///" + name.replace('.', '/') + ".java"), JavaFileObject.Kind.SOURCE) {
+
+        @Override
+        public CharSequence getCharContent(boolean ignoreEncodingErrors) {
+          return source;
+        }
+      };
+
+      List<String> options = List.of("-classpath", System.getProperty("java.class.path"));
+      JavaCompiler.CompilationTask task =
+          compiler.getTask(null, files, diagnostics, options, null, List.of(file));
+      task.setProcessors(List.of(new WebViewExportProcessor()));
+      boolean success = task.call();
+
+      String errors = diagnostics.getDiagnostics().stream()
+          .filter(diagnostic -> diagnostic.getKind() == Diagnostic.Kind.ERROR)
+          .map(diagnostic -> diagnostic.getMessage(null)).collect(Collectors.joining("\n"));
+      return new Compilation(success, errors, sources, classes);
+    }
+  }
+}